@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.benchmark;
+
+import com.commercetools.api.models.customer.Customer;
+import com.commercetools.api.models.order.Order;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.internal.exporter.ResourceCsvDataWriter;
+
+/**
+ * Throughput of writing one resource as csv rows. The csv output is discarded, so the benchmark measures field
+ * extraction, formatting and csv encoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CsvWriterBenchmark {
+
+  private static final List<String> ORDER_FIELDS = List.of("id", "orderNumber", "createdAt", "customerEmail",
+      "orderState", "totalPrice", "shippingAddress.city");
+  private static final List<String> LINE_ITEM_FIELDS = List.of("lineItems.id", "lineItems.productKey",
+      "lineItems.name.en", "lineItems.quantity", "lineItems.totalPrice");
+  private static final List<String> CUSTOMER_FIELDS = List.of("id", "customerNumber", "email", "firstName",
+      "lastName", "isEmailVerified", "createdAt", "lastModifiedAt");
+
+  @Param({"false", "true"})
+  public boolean withLineItems;
+
+  private Order order;
+  private Customer customer;
+  private ResourceCsvDataWriter orderWriter;
+  private ResourceCsvDataWriter customerWriter;
+
+  @Setup
+  public void setUp() {
+    order = Fixtures.order();
+    customer = Fixtures.customer();
+    var orderFields = withLineItems
+        ? Stream.concat(ORDER_FIELDS.stream(), LINE_ITEM_FIELDS.stream()).toList()
+        : ORDER_FIELDS;
+    var objectMapper = JsonUtils.createObjectMapper();
+    orderWriter = new ResourceCsvDataWriter(csvPrinter(orderFields),
+        new DataExportProperties(ExportableResourceType.ORDER, orderFields), objectMapper);
+    customerWriter = new ResourceCsvDataWriter(csvPrinter(CUSTOMER_FIELDS),
+        new DataExportProperties(ExportableResourceType.CUSTOMER, CUSTOMER_FIELDS), objectMapper);
+  }
+
+  @TearDown
+  public void tearDown() {
+    orderWriter.close();
+    customerWriter.close();
+  }
+
+  @Benchmark
+  public void orderWriteRow() {
+    orderWriter.writeRow(order);
+  }
+
+  @Benchmark
+  public void customerWriteRow() {
+    customerWriter.writeRow(customer);
+  }
+
+  /**
+   * Creating the writer compiles the field extraction plan and writes the csv header.
+   */
+  @Benchmark
+  public DataWriter dataWriterSetup() {
+    return DataWriter.csv(new DataExportProperties(ExportableResourceType.ORDER, ORDER_FIELDS),
+        OutputStream.nullOutputStream());
+  }
+
+  private static CSVPrinter csvPrinter(List<String> fields) {
+    try {
+      return new CSVPrinter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8),
+          CSVFormat.DEFAULT.builder().setHeader(fields.toArray(new String[0])).get());
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.benchmark;
+
+import com.commercetools.api.models.order.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tech.bison.dataexport.core.internal.exporter.FieldExtractor;
+import tech.bison.dataexport.core.internal.exporter.RowSource;
+
+/**
+ * Throughput of extracting single fields: plain and money fields through the typed getters, and a field which is only
+ * reachable through the json tree fallback.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FieldExtractorBenchmark {
+
+  private Order order;
+  private ObjectMapper objectMapper;
+  private FieldExtractor plainField;
+  private FieldExtractor moneyField;
+  private FieldExtractor jsonFallbackField;
+
+  @Setup
+  public void setUp() {
+    order = Fixtures.order();
+    objectMapper = JsonUtils.createObjectMapper();
+    plainField = FieldExtractor.compile(0, Order.class, "orderNumber");
+    moneyField = FieldExtractor.compile(0, Order.class, "totalPrice");
+    jsonFallbackField = FieldExtractor.compile(0, Order.class, "lineItems.0.name.de");
+  }
+
+  @Benchmark
+  public String extractPlain() {
+    return plainField.extract(new RowSource(order, objectMapper));
+  }
+
+  @Benchmark
+  public String extractMoney() {
+    return moneyField.extract(new RowSource(order, objectMapper));
+  }
+
+  @Benchmark
+  public Object extractMoneyValue() {
+    return moneyField.extractValue(new RowSource(order, objectMapper));
+  }
+
+  @Benchmark
+  public String extractJsonFallback() {
+    return jsonFallbackField.extract(new RowSource(order, objectMapper));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.benchmark;
+
+import com.commercetools.api.models.cart.LineItem;
+import com.commercetools.api.models.common.Address;
+import com.commercetools.api.models.common.CentPrecisionMoney;
+import com.commercetools.api.models.common.LocalizedString;
+import com.commercetools.api.models.customer.Customer;
+import com.commercetools.api.models.order.Order;
+import com.commercetools.api.models.order.OrderState;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Synthetic resources of realistic size for the benchmarks.
+ */
+final class Fixtures {
+
+  static final int LINE_ITEMS_PER_ORDER = 8;
+  private static final ZonedDateTime CREATED_AT = ZonedDateTime.of(2026, 1, 5, 7, 54, 49, 797_000_000, ZoneOffset.UTC);
+
+  private Fixtures() {
+  }
+
+  static Order order() {
+    return Order.builder()
+        .id("92f5a867-bf19-47ab-982c-6720a03a3921")
+        .version(12L)
+        .createdAt(CREATED_AT)
+        .lastModifiedAt(CREATED_AT.plusHours(3))
+        .orderNumber("2026-000123456")
+        .customerId("0d9a4b8c-52b1-4d0f-9f6e-4c3f1e2d7a10")
+        .customerEmail("jane.doe@example.com")
+        .orderState(OrderState.CONFIRMED)
+        .totalPrice(money(48_950L))
+        .shippingAddress(address())
+        .billingAddress(address())
+        .lineItems(IntStream.range(0, LINE_ITEMS_PER_ORDER).mapToObj(Fixtures::lineItem).toList())
+        .buildUnchecked();
+  }
+
+  static Customer customer() {
+    return Customer.builder()
+        .id("0d9a4b8c-52b1-4d0f-9f6e-4c3f1e2d7a10")
+        .version(4L)
+        .createdAt(CREATED_AT)
+        .lastModifiedAt(CREATED_AT.plusDays(2))
+        .customerNumber("C-100234")
+        .email("jane.doe@example.com")
+        .firstName("Jane")
+        .lastName("Doe")
+        .isEmailVerified(true)
+        .addresses(List.of(address(), address()))
+        .buildUnchecked();
+  }
+
+  private static LineItem lineItem(int index) {
+    return LineItem.builder()
+        .id("b1c2d3e4-0000-4000-8000-00000000000" + index)
+        .productId("5e6f7a8b-1111-4111-8111-00000000000" + index)
+        .productKey("product-" + index)
+        .name(LocalizedString.builder()
+            .addValue("en", "Product " + index)
+            .addValue("de", "Produkt " + index)
+            .build())
+        .quantity((long) index + 1)
+        .totalPrice(money(1_990L * (index + 1)))
+        .buildUnchecked();
+  }
+
+  private static Address address() {
+    return Address.builder()
+        .firstName("Jane")
+        .lastName("Doe")
+        .streetName("Bahnhofstrasse")
+        .streetNumber("12")
+        .postalCode("3011")
+        .city("Bern")
+        .country("CH")
+        .buildUnchecked();
+  }
+
+  private static CentPrecisionMoney money(long centAmount) {
+    return CentPrecisionMoney.builder().centAmount(centAmount).currencyCode("CHF").fractionDigits(2).buildUnchecked();
+  }
+}
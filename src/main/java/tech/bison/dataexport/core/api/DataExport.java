@@ -23,23 +23,30 @@ import tech.bison.dataexport.core.api.executor.DataExportResult;
 import tech.bison.dataexport.core.api.storage.CloudStorageUploader;
 import tech.bison.dataexport.core.internal.exector.DataExportExecutor;
 import tech.bison.dataexport.core.internal.storage.gcp.GcpCloudStorageUploader;
+import tech.bison.dataexport.core.internal.storage.local.LocalFileSystemUploader;
 
 /**
- * Entry point for a data cleanup run.
+ * Entry point for a data cleanup run. The instance keeps the storage client for all runs, close it when it is no longer
+ * used.
  */
-public class DataExport {
+public class DataExport implements AutoCloseable {
     private final Configuration configuration;
+    private final CloudStorageUploader cloudStorageUploader;
     private final DataExportExecutor dataExportExecutor;
 
     public DataExport(Configuration configuration) {
         this.configuration = configuration;
-        dataExportExecutor = new DataExportExecutor(createCloudStorageUploader(configuration));
+        cloudStorageUploader = createCloudStorageUploader(configuration);
+        dataExportExecutor = new DataExportExecutor(cloudStorageUploader);
     }
 
     private CloudStorageUploader createCloudStorageUploader(Configuration configuration) {
         if (configuration.getGcpCloudStorageProperties() != null) {
             return new GcpCloudStorageUploader(configuration.getGcpCloudStorageProperties());
         }
+        if (configuration.getLocalStorageProperties() != null) {
+            return new LocalFileSystemUploader(configuration.getLocalStorageProperties());
+        }
         throw new DataExportException("No cloud storage configuration found.");
     }
 
@@ -75,4 +82,12 @@ public class DataExport {
             throw new DataExportException("Error while executing data export.", ex);
         }
     }
+
+    /**
+     * Waits for running uploads and closes the storage client.
+     */
+    @Override
+    public void close() {
+        cloudStorageUploader.close();
+    }
 }
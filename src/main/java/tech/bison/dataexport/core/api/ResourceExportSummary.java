@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The outcome of the export of one resource type.
+ *
+ * @param status whether the export succeeded
+ * @param rows the number of exported resources
+ * @param childRows the number of rows written for child items, e.g. the line items of orders, in addition to one row
+ * per resource
+ * @param pages the number of result pages exported from the commercetools API. Retried attempts and the queries
+ * which find the boundaries of the fetch slices are not counted.
+ * @param bytes the number of uploaded bytes, after compression
+ * @param blobNames the names of the uploaded files. Files of a failed export which were uploaded before the failure
+ * are kept and listed as well.
+ * @param start the start of the export
+ * @param end the end of the export, once all uploads have completed
+ * @param failureCause the cause of the failure or {@code null} if the export succeeded
+ */
+public record ResourceExportSummary(ResourceExportResult status, long rows, long childRows, long pages, long bytes,
+                                    List<String> blobNames, Instant start, Instant end, Throwable failureCause) {
+
+  public ResourceExportSummary {
+    blobNames = List.copyOf(blobNames);
+  }
+
+  public boolean isSuccess() {
+    return status == ResourceExportResult.SUCCESS;
+  }
+
+  public Duration duration() {
+    return Duration.between(start, end);
+  }
+}
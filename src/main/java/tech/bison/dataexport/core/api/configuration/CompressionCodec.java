@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.configuration;
+
+public enum CompressionCodec {
+  NONE(null, "", 0, 0, 0),
+  GZIP("gzip", ".gz", 6, 0, 9),
+  ZSTD("zstd", ".zst", 3, 1, 22);
+
+  private final String contentEncoding;
+  private final String fileSuffix;
+  private final int defaultLevel;
+  private final int minLevel;
+  private final int maxLevel;
+
+  CompressionCodec(String contentEncoding, String fileSuffix, int defaultLevel, int minLevel, int maxLevel) {
+    this.contentEncoding = contentEncoding;
+    this.fileSuffix = fileSuffix;
+    this.defaultLevel = defaultLevel;
+    this.minLevel = minLevel;
+    this.maxLevel = maxLevel;
+  }
+
+  /**
+   * @return the http content encoding of the compressed data or {@code null} for uncompressed data.
+   */
+  public String getContentEncoding() {
+    return contentEncoding;
+  }
+
+  public String getFileSuffix() {
+    return fileSuffix;
+  }
+
+  public int getDefaultLevel() {
+    return defaultLevel;
+  }
+
+  public int getMinLevel() {
+    return minLevel;
+  }
+
+  public int getMaxLevel() {
+    return maxLevel;
+  }
+}
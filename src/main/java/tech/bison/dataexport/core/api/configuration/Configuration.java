@@ -17,10 +17,19 @@ package tech.bison.dataexport.core.api.configuration;
 
 import com.commercetools.api.client.ProjectApiRoot;
 import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.api.state.ExportStateStore;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 
+/**
+ * The configuration of a data export. The settings added after the first release have default implementations which
+ * return the defaults of {@link FluentConfiguration}, so existing implementations of this interface keep working.
+ */
 public interface Configuration {
 
     ProjectApiRoot getApiRoot();
@@ -29,7 +38,128 @@ public interface Configuration {
 
     GcpCloudStorageProperties getGcpCloudStorageProperties();
 
+    default LocalStorageProperties getLocalStorageProperties() {
+        return null;
+    }
+
     Map<ExportableResourceType, DataExportProperties> getResourceExportProperties();
 
     Clock getClock();
+
+    /**
+     * @return the maximum number of resource types exported concurrently. A value of 1 exports the resource types one
+     * after the other.
+     */
+    default int getMaxConcurrentExports() {
+        return 1;
+    }
+
+    /**
+     * @return the thread factory for concurrent resource type exports.
+     */
+    default ThreadFactory getExportThreadFactory() {
+        return Thread.ofVirtual().name("dataexport-", 0).factory();
+    }
+
+    /**
+     * @return the number of createdAt slices fetched concurrently within one resource type.
+     */
+    default int getFetchSlices() {
+        return 1;
+    }
+
+    /**
+     * @return the number of pages fetched ahead of the data writer.
+     */
+    default int getPrefetchPages() {
+        return 2;
+    }
+
+    /**
+     * @return how the resources are fetched.
+     */
+    default FetchMode getFetchMode() {
+        return FetchMode.REST;
+    }
+
+    /**
+     * @return the state store of incremental exports or {@code null} for full exports.
+     */
+    default ExportStateStore getExportStateStore() {
+        return null;
+    }
+
+    default CompressionCodec getCompressionCodec() {
+        return CompressionCodec.NONE;
+    }
+
+    /**
+     * @return the compression level of the configured codec.
+     */
+    default int getCompressionLevel() {
+        return getCompressionCodec().getDefaultLevel();
+    }
+
+    /**
+     * @return the maximum number of resources per exported file, 0 for no limit.
+     */
+    default long getMaxRowsPerFile() {
+        return 0;
+    }
+
+    /**
+     * @return the approximate maximum size of an exported file in bytes, 0 for no limit.
+     */
+    default long getMaxBytesPerFile() {
+        return 0;
+    }
+
+    /**
+     * @return the maximum number of files of one resource type uploaded concurrently.
+     */
+    default int getMaxConcurrentUploads() {
+        return 4;
+    }
+
+    /**
+     * @return the maximum size of the cached referenced resources in bytes, 0 disables the cache.
+     */
+    default long getReferenceCacheSize() {
+        return 32L * 1024 * 1024;
+    }
+
+    /**
+     * @return the maximum number of concurrent requests to the commercetools api.
+     */
+    default int getMaxConcurrentRequests() {
+        return 16;
+    }
+
+    /**
+     * @return the maximum number of attempts of a request which failed with a temporary error.
+     */
+    default int getMaxRequestAttempts() {
+        return 5;
+    }
+
+    /**
+     * @return the backoff before the first retry of a request, doubled for every further retry.
+     */
+    default Duration getInitialRetryBackoff() {
+        return Duration.ofMillis(200);
+    }
+
+    /**
+     * @return the file the reference cache is kept in between exports or {@code null} if it is only kept in memory.
+     */
+    default Path getReferenceCacheFile() {
+        return null;
+    }
+
+    /**
+     * @return the listener of the export metrics or {@code null} if the metrics are only logged.
+     */
+    default ExportMetricsListener getMetricsListener() {
+        return null;
+    }
 }
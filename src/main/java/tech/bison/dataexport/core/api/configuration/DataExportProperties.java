@@ -19,5 +19,17 @@ import tech.bison.dataexport.core.api.executor.ExportableResourceType;
 
 import java.util.List;
 
-public record DataExportProperties(ExportableResourceType resourceType, List<String> fields) {
+/**
+ * @param filter restricts the exported resources or {@code null} to export all resources
+ */
+public record DataExportProperties(ExportableResourceType resourceType, List<String> fields,
+                                   OutputFormat outputFormat, ExportFilter filter) {
+
+    public DataExportProperties(ExportableResourceType resourceType, List<String> fields) {
+        this(resourceType, fields, OutputFormat.CSV);
+    }
+
+    public DataExportProperties(ExportableResourceType resourceType, List<String> fields, OutputFormat outputFormat) {
+        this(resourceType, fields, outputFormat, null);
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Restricts the exported resources of a resource type, all conditions of the filter must match. Conditions are sent to
+ * commercetools as where predicates if possible, so the resources are filtered at the source. Conditions which cannot
+ * be expressed as where predicate, e.g. {@link Operator#STARTS_WITH}, are evaluated on the fetched resources before
+ * they are written.
+ * <p>
+ * Fields are configured with the dot notation like the export fields. Conditions on fields of child items match if any
+ * child item matches, e.g. {@code ExportFilter.eq("lineItems.productKey", "shirt")}.
+ */
+public final class ExportFilter {
+
+  private final List<String> predicates;
+  private final List<Condition> conditions;
+
+  private ExportFilter(List<String> predicates, List<Condition> conditions) {
+    this.predicates = List.copyOf(predicates);
+    this.conditions = List.copyOf(conditions);
+  }
+
+  /**
+   * A commercetools where predicate, e.g. {@code store(key = "ch")}, which is passed to the query unchanged.
+   */
+  public static ExportFilter where(String predicate) {
+    return new ExportFilter(List.of(Objects.requireNonNull(predicate)), List.of());
+  }
+
+  public static ExportFilter eq(String field, Object value) {
+    return condition(field, Operator.EQ, value);
+  }
+
+  public static ExportFilter ne(String field, Object value) {
+    return condition(field, Operator.NE, value);
+  }
+
+  public static ExportFilter gt(String field, Object value) {
+    return condition(field, Operator.GT, value);
+  }
+
+  public static ExportFilter ge(String field, Object value) {
+    return condition(field, Operator.GE, value);
+  }
+
+  public static ExportFilter lt(String field, Object value) {
+    return condition(field, Operator.LT, value);
+  }
+
+  public static ExportFilter le(String field, Object value) {
+    return condition(field, Operator.LE, value);
+  }
+
+  public static ExportFilter in(String field, Object... values) {
+    return condition(field, Operator.IN, values);
+  }
+
+  public static ExportFilter notIn(String field, Object... values) {
+    return condition(field, Operator.NOT_IN, values);
+  }
+
+  public static ExportFilter startsWith(String field, String prefix) {
+    return condition(field, Operator.STARTS_WITH, prefix);
+  }
+
+  public static ExportFilter contains(String field, String text) {
+    return condition(field, Operator.CONTAINS, text);
+  }
+
+  /**
+   * @param values strings, numbers, booleans or dates. Dates are compared as instants.
+   */
+  public static ExportFilter condition(String field, Operator operator, Object... values) {
+    Objects.requireNonNull(field);
+    Objects.requireNonNull(operator);
+    Arrays.stream(values).forEach(Objects::requireNonNull);
+    return new ExportFilter(List.of(), List.of(new Condition(field, operator, List.of(values))));
+  }
+
+  /**
+   * @return a filter matching the resources which match this and the other filter
+   */
+  public ExportFilter and(ExportFilter other) {
+    var allPredicates = new ArrayList<>(predicates);
+    allPredicates.addAll(other.predicates);
+    var allConditions = new ArrayList<>(conditions);
+    allConditions.addAll(other.conditions);
+    return new ExportFilter(allPredicates, allConditions);
+  }
+
+  /**
+   * @return the where predicates passed to the query unchanged
+   */
+  public List<String> getPredicates() {
+    return predicates;
+  }
+
+  public List<Condition> getConditions() {
+    return conditions;
+  }
+
+  public record Condition(String field, Operator operator, List<Object> values) {
+
+  }
+
+  public enum Operator {
+    EQ, NE, GT, GE, LT, LE, IN, NOT_IN,
+    /**
+     * Text starting with the value, always evaluated on the fetched resources.
+     */
+    STARTS_WITH,
+    /**
+     * Text containing the value, always evaluated on the fetched resources.
+     */
+    CONTAINS
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.configuration;
+
+/**
+ * How the resources are fetched from the commercetools API.
+ */
+public enum FetchMode {
+  /**
+   * Fetches the complete resources with the REST query endpoints.
+   */
+  REST,
+  /**
+   * Fetches only the configured fields with GraphQL queries. Resource types whose fields cannot all be selected with
+   * GraphQL, e.g. localized strings, references or custom fields, and raw output formats are fetched with REST.
+   */
+  GRAPHQL
+}
@@ -16,13 +16,20 @@
 package tech.bison.dataexport.core.api.configuration;
 
 import com.commercetools.api.client.ProjectApiRoot;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 import tech.bison.dataexport.core.api.DataExport;
 import tech.bison.dataexport.core.api.exception.DataExportException;
 import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.api.state.ExportStateStore;
+import tech.bison.dataexport.core.internal.exporter.filter.CompiledFilter;
+import tech.bison.dataexport.core.internal.state.FileExportStateStore;
 
 
 public class FluentConfiguration implements Configuration {
@@ -31,8 +38,28 @@ public class FluentConfiguration implements Configuration {
   private ProjectApiRoot projectApiRoot;
   private Clock clock;
   private GcpCloudStorageProperties gcpCloudStorageProperties;
+  private LocalStorageProperties localStorageProperties;
+  private int maxConcurrentExports = 1;
+  private int fetchSlices = 1;
+  private int prefetchPages = 2;
+  private FetchMode fetchMode = FetchMode.REST;
+  private ExportStateStore exportStateStore;
+  private CompressionCodec compressionCodec = CompressionCodec.NONE;
+  private Integer compressionLevel;
+  private long maxRowsPerFile;
+  private long maxBytesPerFile;
+  private int maxConcurrentUploads = 4;
+  private long referenceCacheSize = 32L * 1024 * 1024;
+  private Path referenceCacheFile;
+  private int maxConcurrentRequests = 16;
+  private int maxRequestAttempts = 5;
+  private Duration initialRetryBackoff = Duration.ofMillis(200);
+  private ExportMetricsListener metricsListener;
+  private ThreadFactory exportThreadFactory = Thread.ofVirtual().name("dataexport-", 0).factory();
   private final Map<ExportableResourceType, DataExportProperties> exportFieldsMap = new EnumMap<>(
       ExportableResourceType.class);
+  private final Map<ExportableResourceType, OutputFormat> outputFormats = new EnumMap<>(ExportableResourceType.class);
+  private final Map<ExportableResourceType, ExportFilter> filters = new EnumMap<>(ExportableResourceType.class);
 
   /**
    * @return The new fully-configured DataExport instance.
@@ -50,11 +77,64 @@ public class FluentConfiguration implements Configuration {
     if (exportFieldsMap.isEmpty()) {
       throw new DataExportException("At least one export type must be configured.");
     }
-    if (exportFieldsMap.values().stream().anyMatch(fields -> fields.fields().isEmpty())) {
+    if (exportFieldsMap.values().stream().anyMatch(properties -> properties.outputFormat() == null)) {
+      throw new DataExportException("At least one export type has no output format configured.");
+    }
+    if (exportFieldsMap.values().stream()
+        .anyMatch(properties -> properties.fields().isEmpty() && !properties.outputFormat().isRaw())) {
       throw new DataExportException("At least one export type has no fields configured.");
     }
-    if (gcpCloudStorageProperties == null) {
-      throw new DataExportException("GCP cloud storage configuration is missing.");
+    if (exportFieldsMap.values().stream().anyMatch(properties -> properties.outputFormat().isRaw()
+        && CompiledFilter.compile(properties.filter()).hasClientConditions())) {
+      throw new DataExportException("Filters of raw output formats must be expressible as where predicates.");
+    }
+    if (gcpCloudStorageProperties == null && localStorageProperties == null) {
+      throw new DataExportException("Storage configuration is missing. "
+          + "Either use withGcpCloudStorageProperties() or withLocalStorageProperties().");
+    }
+    if (localStorageProperties != null && localStorageProperties.rootDirectory() == null) {
+      throw new DataExportException("The root directory of the local storage must not be null.");
+    }
+    if (gcpCloudStorageProperties != null && localStorageProperties != null) {
+      throw new DataExportException("Only one of GCP cloud storage and local storage can be configured.");
+    }
+    if (maxConcurrentExports < 1) {
+      throw new DataExportException("The maximum number of concurrent exports must be at least 1.");
+    }
+    if (fetchSlices < 1) {
+      throw new DataExportException("The number of fetch slices must be at least 1.");
+    }
+    if (prefetchPages < 0) {
+      throw new DataExportException("The number of prefetch pages must not be negative.");
+    }
+    if (fetchMode == null) {
+      throw new DataExportException("The fetch mode must not be null.");
+    }
+    if (compressionCodec == null) {
+      throw new DataExportException("The compression codec must not be null. Use CompressionCodec.NONE instead.");
+    }
+    if (compressionLevel != null && compressionCodec != CompressionCodec.NONE
+        && (compressionLevel < compressionCodec.getMinLevel() || compressionLevel > compressionCodec.getMaxLevel())) {
+      throw new DataExportException(String.format("The compression level of %s must be between %d and %d.",
+          compressionCodec, compressionCodec.getMinLevel(), compressionCodec.getMaxLevel()));
+    }
+    if (maxRowsPerFile < 0 || maxBytesPerFile < 0) {
+      throw new DataExportException("The maximum rows and bytes per file must not be negative.");
+    }
+    if (maxConcurrentUploads < 1) {
+      throw new DataExportException("The maximum number of concurrent uploads must be at least 1.");
+    }
+    if (referenceCacheSize < 0) {
+      throw new DataExportException("The reference cache size must not be negative.");
+    }
+    if (maxConcurrentRequests < 1) {
+      throw new DataExportException("The maximum number of concurrent requests must be at least 1.");
+    }
+    if (maxRequestAttempts < 1) {
+      throw new DataExportException("The maximum number of request attempts must be at least 1.");
+    }
+    if (initialRetryBackoff == null || initialRetryBackoff.isNegative()) {
+      throw new DataExportException("The initial retry backoff must not be negative.");
     }
   }
 
@@ -82,11 +162,42 @@ public class FluentConfiguration implements Configuration {
     return this;
   }
 
+  /**
+   * Configure a local directory as storage of the exported files.
+   */
+  public FluentConfiguration withLocalStorageProperties(LocalStorageProperties localStorageProperties) {
+    this.localStorageProperties = localStorageProperties;
+    return this;
+  }
+
   /**
    * Configures the fields to be exported for the given resource types.
    */
   public FluentConfiguration withExportFields(ExportableResourceType resourceType, List<String> exportFields) {
-    this.exportFieldsMap.put(resourceType, new DataExportProperties(resourceType, exportFields));
+    this.exportFieldsMap.put(resourceType, new DataExportProperties(resourceType, exportFields,
+        outputFormats.getOrDefault(resourceType, OutputFormat.CSV), filters.get(resourceType)));
+    return this;
+  }
+
+  /**
+   * Exports only the resources of the given resource type matching the filter. Conditions which cannot be expressed as
+   * commercetools where predicate are evaluated on the fetched resources and are not supported by raw output formats.
+   */
+  public FluentConfiguration withFilter(ExportableResourceType resourceType, ExportFilter filter) {
+    this.filters.put(resourceType, filter);
+    this.exportFieldsMap.computeIfPresent(resourceType,
+        (type, properties) -> new DataExportProperties(type, properties.fields(), properties.outputFormat(), filter));
+    return this;
+  }
+
+  /**
+   * Configures the output format of the given resource type. Defaults to {@link OutputFormat#CSV}. With
+   * {@link OutputFormat#NDJSON} the export fields may be empty to export the complete resources.
+   */
+  public FluentConfiguration withOutputFormat(ExportableResourceType resourceType, OutputFormat outputFormat) {
+    this.outputFormats.put(resourceType, outputFormat);
+    this.exportFieldsMap.computeIfPresent(resourceType,
+        (type, properties) -> new DataExportProperties(type, properties.fields(), outputFormat, properties.filter()));
     return this;
   }
 
@@ -96,6 +207,154 @@ public class FluentConfiguration implements Configuration {
     return this;
   }
 
+  /**
+   * Exports up to the given number of resource types concurrently. By default, the resource types are exported one
+   * after the other.
+   */
+  public FluentConfiguration withMaxConcurrentExports(int maxConcurrentExports) {
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
+  /**
+   * Splits the createdAt range of every resource type into the given number of slices which are fetched concurrently.
+   * The rows are still written in a deterministic order. By default, every resource type is fetched by one thread.
+   */
+  public FluentConfiguration withFetchSlices(int fetchSlices) {
+    this.fetchSlices = fetchSlices;
+    return this;
+  }
+
+  /**
+   * Configures how many pages are fetched ahead while the data writer processes the current page. If the data writer
+   * falls behind, fetching pauses until it catches up. 0 fetches and writes alternately. Defaults to 2.
+   */
+  public FluentConfiguration withPrefetchPages(int prefetchPages) {
+    this.prefetchPages = prefetchPages;
+    return this;
+  }
+
+  /**
+   * With {@link FetchMode#GRAPHQL} only the configured fields are fetched, which reduces the size of the responses.
+   * Defaults to {@link FetchMode#REST}.
+   */
+  public FluentConfiguration withFetchMode(FetchMode fetchMode) {
+    this.fetchMode = fetchMode;
+    return this;
+  }
+
+  /**
+   * Enables incremental exports. Every export only contains the resources modified since the last successful export of
+   * the resource type. The state of the exports is kept in the given store.
+   */
+  public FluentConfiguration withIncrementalExport(ExportStateStore exportStateStore) {
+    this.exportStateStore = exportStateStore;
+    return this;
+  }
+
+  /**
+   * Enables incremental exports with the export state kept in the given local file.
+   */
+  public FluentConfiguration withIncrementalExport(Path stateFile) {
+    return withIncrementalExport(new FileExportStateStore(stateFile));
+  }
+
+  /**
+   * Compresses the exported files with the given codec and its default level.
+   */
+  public FluentConfiguration withCompression(CompressionCodec compressionCodec) {
+    this.compressionCodec = compressionCodec;
+    this.compressionLevel = null;
+    return this;
+  }
+
+  /**
+   * Compresses the exported files with the given codec and level.
+   */
+  public FluentConfiguration withCompression(CompressionCodec compressionCodec, int compressionLevel) {
+    this.compressionCodec = compressionCodec;
+    this.compressionLevel = compressionLevel;
+    return this;
+  }
+
+  /**
+   * Splits the export of every resource type into multiple files. A new file is started as soon as the current file
+   * contains the given number of resources or has reached the given size. The size is checked after every resource
+   * and is based on the bytes already flushed by the output format, so files may be somewhat larger, especially with
+   * parquet which flushes whole row groups. 0 disables the respective limit. By default, one file is written per
+   * resource type.
+   */
+  public FluentConfiguration withFileRolling(long maxRowsPerFile, long maxBytesPerFile) {
+    this.maxRowsPerFile = maxRowsPerFile;
+    this.maxBytesPerFile = maxBytesPerFile;
+    return this;
+  }
+
+  /**
+   * Configures how many completed files of a resource type are uploaded concurrently while the next file is written.
+   * Only used with {@link #withFileRolling(long, long)}. Defaults to 4.
+   */
+  public FluentConfiguration withMaxConcurrentUploads(int maxConcurrentUploads) {
+    this.maxConcurrentUploads = maxConcurrentUploads;
+    return this;
+  }
+
+  /**
+   * Configures the maximum size of the cache of slowly changing referenced resources, e.g. channels or tax categories,
+   * which is shared by the exports of all resource types. The size is estimated from the json of the resources. 0
+   * disables the cache. Defaults to 32 MB.
+   */
+  public FluentConfiguration withReferenceCacheSize(long referenceCacheSize) {
+    this.referenceCacheSize = referenceCacheSize;
+    return this;
+  }
+
+  /**
+   * Keeps the reference cache in the given local file between exports, e.g. for exports in a new process every hour.
+   * Cached resources modified since the previous export are replaced by their current version before they are used.
+   */
+  public FluentConfiguration withPersistentReferenceCache(Path referenceCacheFile) {
+    this.referenceCacheFile = referenceCacheFile;
+    return this;
+  }
+
+  /**
+   * Limits the concurrent requests of all fetchers to the commercetools api. Throttled requests halve the current
+   * limit, which then slowly recovers up to the maximum with every successful request. Defaults to 16.
+   */
+  public FluentConfiguration withMaxConcurrentRequests(int maxConcurrentRequests) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    return this;
+  }
+
+  /**
+   * Configures the retries of requests which failed with a temporary error, e.g. too many requests or a server error.
+   * The backoff doubles with every retry and is jittered; a {@code Retry-After} of the api takes precedence. Defaults
+   * to 5 attempts and an initial backoff of 200 ms.
+   */
+  public FluentConfiguration withRetry(int maxRequestAttempts, Duration initialRetryBackoff) {
+    this.maxRequestAttempts = maxRequestAttempts;
+    this.initialRetryBackoff = initialRetryBackoff;
+    return this;
+  }
+
+  /**
+   * Reports the metrics of every export run to the given listener, e.g. to forward them to a metrics registry. The
+   * metrics of every resource type are logged in any case.
+   */
+  public FluentConfiguration withMetricsListener(ExportMetricsListener metricsListener) {
+    this.metricsListener = metricsListener;
+    return this;
+  }
+
+  /**
+   * Configures the thread factory for concurrent exports and fetches. Defaults to virtual threads.
+   */
+  public FluentConfiguration withExportThreadFactory(ThreadFactory exportThreadFactory) {
+    this.exportThreadFactory = exportThreadFactory;
+    return this;
+  }
+
 
   @Override
   public CommercetoolsProperties getApiProperties() {
@@ -113,10 +372,100 @@ public class FluentConfiguration implements Configuration {
     return clock;
   }
 
+  @Override
+  public int getMaxConcurrentExports() {
+    return maxConcurrentExports;
+  }
+
+  @Override
+  public ThreadFactory getExportThreadFactory() {
+    return exportThreadFactory;
+  }
+
+  @Override
+  public int getFetchSlices() {
+    return fetchSlices;
+  }
+
+  @Override
+  public int getPrefetchPages() {
+    return prefetchPages;
+  }
+
+  @Override
+  public FetchMode getFetchMode() {
+    return fetchMode;
+  }
+
+  @Override
+  public ExportStateStore getExportStateStore() {
+    return exportStateStore;
+  }
+
+  @Override
+  public CompressionCodec getCompressionCodec() {
+    return compressionCodec;
+  }
+
+  @Override
+  public int getCompressionLevel() {
+    return compressionLevel != null ? compressionLevel : compressionCodec.getDefaultLevel();
+  }
+
+  @Override
+  public long getMaxRowsPerFile() {
+    return maxRowsPerFile;
+  }
+
+  @Override
+  public long getMaxBytesPerFile() {
+    return maxBytesPerFile;
+  }
+
+  @Override
+  public int getMaxConcurrentUploads() {
+    return maxConcurrentUploads;
+  }
+
+  @Override
+  public long getReferenceCacheSize() {
+    return referenceCacheSize;
+  }
+
+  @Override
+  public Path getReferenceCacheFile() {
+    return referenceCacheFile;
+  }
+
+  @Override
+  public int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  @Override
+  public int getMaxRequestAttempts() {
+    return maxRequestAttempts;
+  }
+
+  @Override
+  public Duration getInitialRetryBackoff() {
+    return initialRetryBackoff;
+  }
+
+  @Override
+  public ExportMetricsListener getMetricsListener() {
+    return metricsListener;
+  }
+
   public GcpCloudStorageProperties getGcpCloudStorageProperties() {
     return gcpCloudStorageProperties;
   }
 
+  @Override
+  public LocalStorageProperties getLocalStorageProperties() {
+    return localStorageProperties;
+  }
+
   @Override
   public Map<ExportableResourceType, DataExportProperties> getResourceExportProperties() {
     return exportFieldsMap;
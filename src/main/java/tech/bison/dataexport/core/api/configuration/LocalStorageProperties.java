@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Stores the exported files in a local directory instead of a cloud storage, e.g. for on-premise runs or load tests.
+ *
+ * @param rootDirectory the directory the blob names are resolved against
+ */
+public record LocalStorageProperties(Path rootDirectory) {
+
+}
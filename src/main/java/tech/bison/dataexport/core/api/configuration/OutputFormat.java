@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.configuration;
+
+public enum OutputFormat {
+  CSV("csv", "text/csv", false, false),
+  /**
+   * Parquet files compress their column chunks themselves, so the configured compression codec is not applied.
+   */
+  PARQUET("parquet", "application/vnd.apache.parquet", false, true),
+  /**
+   * Newline delimited json of the resources as returned by the API. The configured fields are an optional projection
+   * on the top level fields of the resources.
+   */
+  NDJSON("ndjson", "application/x-ndjson", true, false);
+
+  private final String fileExtension;
+  private final String contentType;
+  private final boolean raw;
+  private final boolean compressed;
+
+  OutputFormat(String fileExtension, String contentType, boolean raw, boolean compressed) {
+    this.fileExtension = fileExtension;
+    this.contentType = contentType;
+    this.raw = raw;
+    this.compressed = compressed;
+  }
+
+  public String getFileExtension() {
+    return fileExtension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * @return whether the format writes the resources without deserializing them into model objects
+   */
+  public boolean isRaw() {
+    return raw;
+  }
+
+  /**
+   * @return whether the format compresses its files itself, so they are not compressed again
+   */
+  public boolean isCompressed() {
+    return compressed;
+  }
+}
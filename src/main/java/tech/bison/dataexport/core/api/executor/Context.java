@@ -18,18 +18,28 @@ package tech.bison.dataexport.core.api.executor;
 import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.api.defaultconfig.ApiRootBuilder;
 import io.vrap.rmf.base.client.oauth2.ClientCredentials;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
 import tech.bison.dataexport.core.api.configuration.CommercetoolsProperties;
+import tech.bison.dataexport.core.api.configuration.CompressionCodec;
 import tech.bison.dataexport.core.api.configuration.Configuration;
 import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.configuration.FetchMode;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.api.state.ExportStateStore;
 
 public class Context {
 
   private final Configuration configuration;
   private final Clock defaultClock;
+  private ProjectApiRoot projectApiRoot;
 
   public Context(Configuration configuration) {
     this.configuration = configuration;
@@ -39,17 +49,103 @@ public class Context {
   /**
    * @return The commercetools api root object.
    */
-  public ProjectApiRoot getProjectApiRoot() {
+  public synchronized ProjectApiRoot getProjectApiRoot() {
     if (configuration.getApiRoot() != null) {
       return configuration.getApiRoot();
     }
-    return createProjectApiRoot(configuration.getApiProperties());
+    if (projectApiRoot == null) {
+      projectApiRoot = createProjectApiRoot(configuration.getApiProperties());
+    }
+    return projectApiRoot;
   }
 
   public Map<ExportableResourceType, DataExportProperties> getResourceExportProperties() {
     return configuration.getResourceExportProperties();
   }
 
+  public int getMaxConcurrentExports() {
+    return configuration.getMaxConcurrentExports();
+  }
+
+  public ThreadFactory getExportThreadFactory() {
+    return configuration.getExportThreadFactory();
+  }
+
+  public int getFetchSlices() {
+    return configuration.getFetchSlices();
+  }
+
+  public int getPrefetchPages() {
+    return configuration.getPrefetchPages();
+  }
+
+  public FetchMode getFetchMode() {
+    return configuration.getFetchMode();
+  }
+
+  public ExportStateStore getExportStateStore() {
+    return configuration.getExportStateStore();
+  }
+
+  /**
+   * @return the watermark of the last incremental export of the resource type, empty for full exports
+   */
+  public Optional<ZonedDateTime> getWatermark(ExportableResourceType resourceType) {
+    var exportStateStore = configuration.getExportStateStore();
+    return exportStateStore == null ? Optional.empty() : exportStateStore.getWatermark(resourceType);
+  }
+
+  public CompressionCodec getCompressionCodec() {
+    return configuration.getCompressionCodec();
+  }
+
+  public int getCompressionLevel() {
+    return configuration.getCompressionLevel();
+  }
+
+  /**
+   * @return whether the export of a resource type is split into multiple files
+   */
+  public boolean isFileRollingEnabled() {
+    return configuration.getMaxRowsPerFile() > 0 || configuration.getMaxBytesPerFile() > 0;
+  }
+
+  public long getMaxRowsPerFile() {
+    return configuration.getMaxRowsPerFile();
+  }
+
+  public long getMaxBytesPerFile() {
+    return configuration.getMaxBytesPerFile();
+  }
+
+  public int getMaxConcurrentUploads() {
+    return configuration.getMaxConcurrentUploads();
+  }
+
+  public int getMaxConcurrentRequests() {
+    return configuration.getMaxConcurrentRequests();
+  }
+
+  public int getMaxRequestAttempts() {
+    return configuration.getMaxRequestAttempts();
+  }
+
+  public Duration getInitialRetryBackoff() {
+    return configuration.getInitialRetryBackoff();
+  }
+
+  public long getReferenceCacheSize() {
+    return configuration.getReferenceCacheSize();
+  }
+
+  public Path getReferenceCacheFile() {
+    return configuration.getReferenceCacheFile();
+  }
+
+  public ExportMetricsListener getMetricsListener() {
+    return configuration.getMetricsListener();
+  }
+
   public Clock getClock() {
     if (configuration.getClock() != null) {
       return configuration.getClock();
@@ -15,24 +15,28 @@
  */
 package tech.bison.dataexport.core.api.executor;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
-import tech.bison.dataexport.core.api.ResourceExportResult;
+import tech.bison.dataexport.core.api.ResourceExportSummary;
 
 public class DataExportResult {
 
-  private final Map<ExportableResourceType, ResourceExportResult> resourceExportSummaryMap = new EnumMap<>(
-      ExportableResourceType.class);
+  private final Map<ExportableResourceType, ResourceExportSummary> resourceExportSummaryMap =
+      Collections.synchronizedMap(new EnumMap<>(ExportableResourceType.class));
 
   public static DataExportResult empty() {
     return new DataExportResult();
   }
 
-  public void addResult(ExportableResourceType resourceType, ResourceExportResult exportResult) {
-    resourceExportSummaryMap.put(resourceType, exportResult);
+  public void addResult(ExportableResourceType resourceType, ResourceExportSummary exportSummary) {
+    resourceExportSummaryMap.put(resourceType, exportSummary);
   }
 
-  public ResourceExportResult getResourceSummary(ExportableResourceType resourceType) {
+  /**
+   * @return the summary of the export of the resource type or {@code null} if the resource type was not exported
+   */
+  public ResourceExportSummary getResourceSummary(ExportableResourceType resourceType) {
     return resourceExportSummaryMap.get(resourceType);
   }
 }
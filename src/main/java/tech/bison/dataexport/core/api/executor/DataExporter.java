@@ -15,8 +15,7 @@
  */
 package tech.bison.dataexport.core.api.executor;
 
-import tech.bison.dataexport.core.internal.exporter.customers.CustomerDataExporter;
-import tech.bison.dataexport.core.internal.exporter.orders.OrderDataExporter;
+import tech.bison.dataexport.core.internal.exporter.ResourceRegistry;
 
 /**
  * Interface for exporting data.
@@ -26,9 +25,6 @@ public interface DataExporter {
   void export(Context context, DataWriter dataWriter);
 
   static DataExporter from(ExportableResourceType resourceType) {
-    return switch (resourceType) {
-      case ORDER -> new OrderDataExporter();
-      case CUSTOMER -> new CustomerDataExporter();
-    };
+    return ResourceRegistry.get(resourceType).exporter().get();
   }
 }
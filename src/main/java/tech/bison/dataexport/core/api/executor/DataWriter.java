@@ -25,22 +25,62 @@ import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import tech.bison.dataexport.core.api.configuration.DataExportProperties;
 import tech.bison.dataexport.core.api.exception.DataExportException;
-import tech.bison.dataexport.core.internal.exporter.customers.CustomerDataCsvWriter;
-import tech.bison.dataexport.core.internal.exporter.orders.OrderDataCsvWriter;
+import tech.bison.dataexport.core.internal.exporter.ExtractionPlans;
+import tech.bison.dataexport.core.internal.exporter.ResourceRegistry;
+import tech.bison.dataexport.core.internal.exporter.ndjson.NdjsonDataWriter;
+import tech.bison.dataexport.core.internal.exporter.parquet.ParquetDataWriter;
 
-public interface DataWriter {
+public interface DataWriter extends AutoCloseable {
 
   void writeRow(BaseResource object);
 
+  /**
+   * @return the number of rows written for child items, e.g. the line items of orders, in addition to the one row per
+   * resource
+   */
+  default long getChildRowCount() {
+    return 0;
+  }
+
+  /**
+   * Flushes all buffered rows to the output stream. The output stream itself is owned by the caller and stays open.
+   */
+  @Override
+  default void close() {
+  }
+
+  /**
+   * Creates the writer of the {@link DataExportProperties#outputFormat() output format} of the export.
+   */
+  static DataWriter from(DataExportProperties dataExportProperties, OutputStream outputStream) {
+    return switch (dataExportProperties.outputFormat()) {
+      case CSV -> csv(dataExportProperties, outputStream);
+      case PARQUET -> parquet(dataExportProperties, outputStream);
+      case NDJSON -> new NdjsonDataWriter(outputStream);
+    };
+  }
+
+  /**
+   * @throws DataExportException if the optional parquet dependencies are not on the classpath
+   */
+  static DataWriter parquet(DataExportProperties dataExportProperties, OutputStream outputStream) {
+    try {
+      Class.forName("org.apache.parquet.hadoop.ParquetWriter", false, DataWriter.class.getClassLoader());
+      Class.forName("org.apache.hadoop.conf.Configuration", false, DataWriter.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new DataExportException("The parquet output format needs the optional parquet dependencies. Require the "
+          + "capability 'tech.bison:commercetools-dataexport-parquet' or add parquet-hadoop and the hadoop client.", e);
+    }
+    var extractionPlan = ExtractionPlans.forResource(dataExportProperties, JsonUtils.createObjectMapper());
+    return new ParquetDataWriter(outputStream, dataExportProperties, extractionPlan);
+  }
+
   static DataWriter csv(DataExportProperties dataExportProperties, OutputStream outputStream) {
     try {
       var csvPrinter = new CSVPrinter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
           CSVFormat.DEFAULT.builder().setHeader(dataExportProperties.fields().toArray(new String[0])).get());
-      var objectMapper = JsonUtils.createObjectMapper();
-      return switch (dataExportProperties.resourceType()) {
-        case ORDER -> new OrderDataCsvWriter(csvPrinter, dataExportProperties, objectMapper);
-        case CUSTOMER -> new CustomerDataCsvWriter(csvPrinter, dataExportProperties, objectMapper);
-      };
+      return ResourceRegistry.get(dataExportProperties.resourceType()).csvWriter()
+          .create(csvPrinter, dataExportProperties, JsonUtils.createObjectMapper());
     } catch (IOException e) {
       throw new DataExportException("Error creating CSVPrinter.", e);
     }
@@ -16,16 +16,32 @@
 package tech.bison.dataexport.core.api.executor;
 
 public enum ExportableResourceType {
-    ORDER("order"),
-    CUSTOMER("customer");
+    ORDER("order", "orders"),
+    CUSTOMER("customer", "customers"),
+    /**
+     * The current product projections.
+     */
+    PRODUCT("product", "products"),
+    CART("cart", "carts"),
+    PAYMENT("payment", "payments"),
+    INVENTORY("inventory", "inventory");
 
     private final String name;
+    private final String pluralName;
 
-    ExportableResourceType(String name) {
+    ExportableResourceType(String name, String pluralName) {
         this.name = name;
+        this.pluralName = pluralName;
     }
 
     public String getName() {
         return name;
     }
+
+    /**
+     * @return the name used for the directory and the files of the resource type
+     */
+    public String getPluralName() {
+        return pluralName;
+    }
 }
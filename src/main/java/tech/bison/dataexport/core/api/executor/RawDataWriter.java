@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.executor;
+
+import tech.bison.dataexport.core.api.configuration.OutputFormat;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+
+/**
+ * A {@link DataWriter} which can also write resources which were not deserialized. The data writers of
+ * {@link OutputFormat#isRaw() raw} output formats must implement this interface.
+ */
+public interface RawDataWriter {
+
+  void writeRaw(RawResource resource);
+
+  /**
+   * @return the data writer as raw data writer
+   * @throws DataExportException if the data writer does not support raw resources
+   */
+  static RawDataWriter of(DataWriter dataWriter) {
+    if (dataWriter instanceof RawDataWriter rawDataWriter) {
+      return rawDataWriter;
+    }
+    throw new DataExportException(String.format("The data writer %s does not support raw output formats. Data "
+        + "writers of raw output formats must implement RawDataWriter.", dataWriter.getClass().getName()));
+  }
+}
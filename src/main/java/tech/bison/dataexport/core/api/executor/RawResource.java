@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.executor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A resource in the json representation of the commercetools API, without deserialization into a model object.
+ *
+ * @param id the id of the resource
+ * @param createdAt the unparsed {@code createdAt} timestamp
+ * @param lastModifiedAt the unparsed {@code lastModifiedAt} timestamp
+ * @param json the utf-8 encoded json object of the resource
+ */
+public record RawResource(String id, String createdAt, String lastModifiedAt, byte[] json) {
+
+  public ZonedDateTime getCreatedAt() {
+    return createdAt == null ? null : ZonedDateTime.parse(createdAt);
+  }
+
+  public ZonedDateTime getLastModifiedAt() {
+    return lastModifiedAt == null ? null : ZonedDateTime.parse(lastModifiedAt);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.metrics;
+
+import java.time.Duration;
+
+/**
+ * The metrics of the export of one resource type. The phase durations are summed over all threads, so with concurrent
+ * fetching or uploading they may exceed the total duration. Comparing them shows the bottleneck of the export.
+ *
+ * @param rows the number of written resources
+ * @param childRows the number of rows written for child items, e.g. the line items of orders
+ * @param bytes the number of bytes passed to the storage, after compression
+ * @param pages the number of result pages passed to the data writer, without failed attempts and slice boundary
+ * queries
+ * @param requests the number of page queries to the commercetools API, every attempt of a retried query counts
+ * @param failedRequests the number of page queries which failed, e.g. throttled or retried queries
+ * @param referenceRequests the number of queries of referenced resources, e.g. the customer groups of orders
+ * @param referenceCacheHits the number of referenced resources found in the reference cache
+ * @param referenceCacheMisses the number of referenced resources of cached reference types which had to be queried
+ * @param pageLatency the latency distribution of the page queries, including the failed ones
+ * @param fetchTime the time spent in page and reference queries
+ * @param writeTime the time spent in the data writer, i.e. field extraction, serialization and compression
+ * @param uploadTime the time spent finishing uploads
+ * @param totalTime the wall clock time from the start of the export until all uploads have completed
+ */
+public record ExportMetrics(long rows, long childRows, long bytes, long pages, long requests, long failedRequests,
+                            long referenceRequests, long referenceCacheHits, long referenceCacheMisses,
+                            LatencyHistogram pageLatency, Duration fetchTime, Duration writeTime, Duration uploadTime,
+                            Duration totalTime) {
+
+  /**
+   * @return the written resources per second of total time
+   */
+  public double rowsPerSecond() {
+    return totalTime.isZero() ? 0 : rows / (totalTime.toNanos() / 1_000_000_000d);
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.metrics;
+
+import java.time.Duration;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+
+/**
+ * Receives the metrics of an export run. The methods may be called concurrently from different export threads.
+ */
+public interface ExportMetricsListener {
+
+  ExportMetricsListener NONE = new ExportMetricsListener() {
+  };
+
+  /**
+   * Called after every query to the commercetools API.
+   *
+   * @param results the number of resources returned by the query
+   * @param latency the time until the response was received and deserialized
+   */
+  default void onPageFetched(ExportableResourceType resourceType, int results, Duration latency) {
+  }
+
+  /**
+   * Called once the export of a resource type has finished, successfully or not.
+   */
+  default void onResourceExported(ExportableResourceType resourceType, ExportMetrics metrics) {
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Snapshot of a latency distribution with exponential buckets. Bucket {@code i} counts the latencies up to
+ * {@code 2^i} milliseconds, the last bucket all larger latencies.
+ */
+public final class LatencyHistogram {
+
+  /**
+   * The number of buckets, the largest bounded bucket ends at about 65 seconds.
+   */
+  public static final int BUCKETS = 18;
+  private final long[] counts;
+  private final long count;
+  private final Duration total;
+  private final Duration max;
+
+  public LatencyHistogram(long[] counts, Duration total, Duration max) {
+    if (counts.length != BUCKETS) {
+      throw new IllegalArgumentException("A latency histogram has " + BUCKETS + " buckets.");
+    }
+    this.counts = counts.clone();
+    this.count = Arrays.stream(counts).sum();
+    this.total = total;
+    this.max = max;
+  }
+
+  /**
+   * @return the index of the bucket which counts the given latency
+   */
+  public static int bucketOf(Duration latency) {
+    long millis = Math.max(1, latency.toMillis() + (latency.toNanosPart() % 1_000_000 > 0 ? 1 : 0));
+    int bucket = 64 - Long.numberOfLeadingZeros(millis - 1);
+    return Math.min(bucket, BUCKETS - 1);
+  }
+
+  /**
+   * @return the upper bound of the given bucket, {@code null} for the last bucket
+   */
+  public static Duration upperBoundOf(int bucket) {
+    return bucket == BUCKETS - 1 ? null : Duration.ofMillis(1L << bucket);
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getCount(int bucket) {
+    return counts[bucket];
+  }
+
+  public Duration getMean() {
+    return count == 0 ? Duration.ZERO : total.dividedBy(count);
+  }
+
+  public Duration getMax() {
+    return max;
+  }
+
+  /**
+   * @param percentile the percentile between 0 and 100
+   * @return the upper bound of the bucket containing the percentile, the maximum for the last bucket
+   */
+  public Duration getPercentile(double percentile) {
+    if (count == 0) {
+      return Duration.ZERO;
+    }
+    long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS - 1; bucket++) {
+      seen += counts[bucket];
+      if (seen >= rank) {
+        var upperBound = upperBoundOf(bucket);
+        return upperBound.compareTo(max) > 0 ? max : upperBound;
+      }
+    }
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%d, mean=%dms, p50=%dms, p99=%dms, max=%dms", count, getMean().toMillis(),
+        getPercentile(50).toMillis(), getPercentile(99).toMillis(), max.toMillis());
+  }
+}
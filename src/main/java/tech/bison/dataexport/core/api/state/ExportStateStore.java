@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.state;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+
+/**
+ * Persists the state of incremental exports between export runs.
+ */
+public interface ExportStateStore {
+
+  /**
+   * @return the high-water mark of the last successful export of the resource type, empty if the resource type has
+   * not been exported yet
+   */
+  Optional<ZonedDateTime> getWatermark(ExportableResourceType resourceType);
+
+  /**
+   * Stores the high-water mark after a successful export of the resource type.
+   */
+  void saveWatermark(ExportableResourceType resourceType, ZonedDateTime watermark);
+}
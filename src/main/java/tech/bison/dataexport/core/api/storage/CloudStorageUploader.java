@@ -15,7 +15,71 @@
  */
 package tech.bison.dataexport.core.api.storage;
 
-public interface CloudStorageUploader {
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import tech.bison.dataexport.core.api.exception.DataExportException;
 
-  void upload(String name, byte[] data);
+public interface CloudStorageUploader extends AutoCloseable {
+
+  /**
+   * Opens a streaming upload for the given blob. Written data is transferred while it is written, the blob is published
+   * when the stream is closed and discarded when the stream is aborted.
+   *
+   * @param blob the name and metadata of the blob
+   * @return the stream to write the blob content to
+   */
+  UploadOutputStream openOutputStream(BlobDescriptor blob);
+
+  default void upload(BlobDescriptor blob, byte[] data) {
+    var outputStream = openOutputStream(blob);
+    try {
+      outputStream.write(data);
+      outputStream.close();
+    } catch (Throwable e) {
+      outputStream.abort();
+      throw uploadFailure(blob, e);
+    }
+  }
+
+  /**
+   * Uploads a complete file. The file must not be modified or deleted until the upload has completed. The caller
+   * deletes the file afterwards if it still exists, so an implementation may also move it.
+   * <p>
+   * The default implementation uploads synchronously on the calling thread. Implementations which upload in the
+   * background must run the uploads on an executor they own and wait for it in {@link #close()}.
+   *
+   * @return completes when the blob is published, or exceptionally if the upload failed
+   */
+  default CompletableFuture<Void> uploadAsync(BlobDescriptor blob, Path file) {
+    var outputStream = openOutputStream(blob);
+    try {
+      Files.copy(file, outputStream);
+      outputStream.close();
+      return CompletableFuture.completedFuture(null);
+    } catch (Throwable e) {
+      outputStream.abort();
+      return CompletableFuture.failedFuture(uploadFailure(blob, e));
+    }
+  }
+
+  /**
+   * Waits for running background uploads and releases the resources of the uploader. The default implementation
+   * uploads synchronously and holds no resources.
+   */
+  @Override
+  default void close() {
+  }
+
+  private static RuntimeException uploadFailure(BlobDescriptor blob, Throwable failure) {
+    if (failure instanceof Error error) {
+      throw error;
+    }
+    if (failure instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new DataExportException(String.format("Error while uploading blob data with name '%s'.", blob.name()),
+        failure);
+  }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.storage;
+
+import java.io.OutputStream;
+
+/**
+ * Stream of a blob upload. Closing the stream completes the upload and publishes the blob.
+ */
+public abstract class UploadOutputStream extends OutputStream {
+
+  /**
+   * Discards the upload. The blob is not published and the stream must not be used anymore.
+   */
+  public abstract void abort();
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exector;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+import tech.bison.dataexport.core.api.configuration.CompressionCodec;
+
+/**
+ * Creates the streaming compression stage between the data writer and the upload stream. Closing the compressing
+ * stream finishes the compressed data and closes the upload stream.
+ */
+final class CompressionStreams {
+
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private CompressionStreams() {
+  }
+
+  static OutputStream compress(OutputStream outputStream, CompressionCodec codec, int level) throws IOException {
+    return switch (codec) {
+      case NONE -> outputStream;
+      case GZIP -> new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) {
+        {
+          def.setLevel(level);
+        }
+      };
+      case ZSTD -> new ZstdOutputStream(outputStream, level);
+    };
+  }
+}
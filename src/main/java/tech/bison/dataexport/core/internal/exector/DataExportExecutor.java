@@ -18,12 +18,23 @@ package tech.bison.dataexport.core.internal.exector;
 import static tech.bison.dataexport.core.api.ResourceExportResult.FAILED;
 import static tech.bison.dataexport.core.api.ResourceExportResult.SUCCESS;
 
-import java.io.ByteArrayOutputStream;
-import java.time.Clock;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tech.bison.dataexport.core.api.ResourceExportSummary;
+import tech.bison.dataexport.core.api.configuration.CompressionCodec;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.exception.DataExportException;
 import tech.bison.dataexport.core.api.executor.Context;
 import tech.bison.dataexport.core.api.executor.DataExportResult;
 import tech.bison.dataexport.core.api.executor.DataExporter;
@@ -31,7 +42,13 @@ import tech.bison.dataexport.core.api.executor.DataExporterProvider;
 import tech.bison.dataexport.core.api.executor.DataWriter;
 import tech.bison.dataexport.core.api.executor.DataWriterProvider;
 import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.executor.RawDataWriter;
+import tech.bison.dataexport.core.api.metrics.ExportMetrics;
+import tech.bison.dataexport.core.api.storage.BlobDescriptor;
 import tech.bison.dataexport.core.api.storage.CloudStorageUploader;
+import tech.bison.dataexport.core.internal.exporter.ExportSession;
+import tech.bison.dataexport.core.internal.exporter.SessionDataExporter;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
 
 public class DataExportExecutor {
 
@@ -42,7 +59,7 @@ public class DataExportExecutor {
 
 
   public DataExportExecutor(CloudStorageUploader cloudStorageUploader) {
-    this(cloudStorageUploader, DataExporter::from, DataWriter::csv);
+    this(cloudStorageUploader, DataExporter::from, DataWriter::from);
   }
 
   public DataExportExecutor(CloudStorageUploader cloudStorageUploader, DataExporterProvider dataExporterProvider,
@@ -52,32 +69,213 @@ public class DataExportExecutor {
     this.dataWriterProvider = dataWriterProvider;
   }
 
+  /**
+   * Exports all configured resource types. Background uploads of a resource type may still be running while the next
+   * resource type is exported; the result is returned once all uploads have completed.
+   */
   public DataExportResult execute(Context context) {
     DataExportResult dataExportResult = DataExportResult.empty();
-    var resourceExportProperties = context.getResourceExportProperties();
-    for (var entry : resourceExportProperties.entrySet()) {
-      var resourceType = entry.getKey();
-      LOG.info("Running data export for resource '{}'.", resourceType.getName());
-      try {
-        DataExporter dataExporter = dataExporterProvider.apply(entry.getKey());
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        DataWriter dataWriter = dataWriterProvider.create(entry.getValue(), byteArrayOutputStream);
-        dataExporter.export(context, dataWriter);
-        cloudStorageUploader.upload(getBlobName(resourceType, context.getClock()), byteArrayOutputStream.toByteArray());
-        dataExportResult.addResult(resourceType, SUCCESS);
+    var resourceExportProperties = context.getResourceExportProperties().values();
+    var pendingExports = new ConcurrentLinkedQueue<CompletableFuture<Void>>();
+    var session = new ExportSession(context);
+    if (context.getMaxConcurrentExports() <= 1 || resourceExportProperties.size() <= 1) {
+      resourceExportProperties.forEach(
+          properties -> pendingExports.add(runExport(context, session, properties, dataExportResult)));
+    } else {
+      var permits = new Semaphore(context.getMaxConcurrentExports());
+      try (var executorService = Executors.newThreadPerTaskExecutor(context.getExportThreadFactory())) {
+        for (var properties : resourceExportProperties) {
+          executorService.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+              pendingExports.add(runExport(context, session, properties, dataExportResult));
+            } finally {
+              permits.release();
+            }
+          });
+        }
+      }
+    }
+    pendingExports.forEach(CompletableFuture::join);
+    saveReferenceCache(session);
+    return dataExportResult;
+  }
+
+  /**
+   * @return completes with the result of the resource type once its uploads have completed, never exceptionally
+   */
+  private CompletableFuture<Void> runExport(Context context, ExportSession session, DataExportProperties properties,
+      DataExportResult dataExportResult) {
+    var resourceType = properties.resourceType();
+    LOG.info("Running data export for resource '{}'.", resourceType.getName());
+    var start = Instant.now(context.getClock());
+    var metrics = session.getMetricsRecorder(resourceType);
+    metrics.start();
+    CompletableFuture<Void> export;
+    try {
+      export = exportResource(context, session, properties, metrics);
+    } catch (Exception ex) {
+      export = CompletableFuture.failedFuture(ex);
+    }
+    return export.handle((ignored, failure) -> {
+      var exportMetrics = metrics.publish();
+      logMetrics(resourceType, exportMetrics);
+      var cause = failure instanceof CompletionException ? failure.getCause() : failure;
+      dataExportResult.addResult(resourceType, new ResourceExportSummary(cause == null ? SUCCESS : FAILED,
+          exportMetrics.rows(), exportMetrics.childRows(), exportMetrics.pages(), exportMetrics.bytes(),
+          metrics.getBlobNames(), start, Instant.now(context.getClock()), cause));
+      if (cause == null) {
         LOG.info("Data export finished successfully for resource '{}'.", resourceType.getName());
-      } catch (Exception ex) {
-        dataExportResult.addResult(resourceType, FAILED);
+      } else {
         LOG.error("Error while executing data export for resource '{}'. Continue with next resource type.",
-            resourceType.getName(), ex);
+            resourceType.getName(), cause);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * @return completes when the files of the resource type are uploaded and the watermark is saved
+   */
+  private CompletableFuture<Void> exportResource(Context context, ExportSession session,
+      DataExportProperties properties, ExportMetricsRecorder metrics) throws IOException {
+    var resourceType = properties.resourceType();
+    DataExporter dataExporter = dataExporterProvider.apply(resourceType);
+    var compressionCodec = properties.outputFormat().isCompressed() ? CompressionCodec.NONE
+        : context.getCompressionCodec();
+    var timestamp = LocalDateTime.now(context.getClock()).format(DateTimeFormatter.ofPattern("yyyy_MM_dd_HH_mm_ss"));
+    ZonedDateTime watermark;
+    CompletableFuture<Void> uploads;
+    if (context.isFileRollingEnabled()) {
+      var dataWriter = new RollingDataWriter(context, cloudStorageUploader,
+          outputStream -> createDataWriter(properties, outputStream), compressionCodec,
+          sequence -> getBlobDescriptor(properties, compressionCodec, timestamp, sequence),
+          getManifestDescriptor(properties, timestamp), metrics);
+      try {
+        watermark = export(context, session, dataExporter, new MeteredDataWriter(dataWriter, metrics));
+        uploads = dataWriter.finish();
+      } catch (RuntimeException ex) {
+        return dataWriter.abort().thenCompose(ignored -> CompletableFuture.failedFuture(ex));
+      }
+    } else {
+      var blobDescriptor = getBlobDescriptor(properties, compressionCodec, timestamp, null);
+      var outputStream = cloudStorageUploader.openOutputStream(blobDescriptor);
+      try {
+        var countingStream = new CountingOutputStream(outputStream);
+        var dataOutputStream = CompressionStreams.compress(countingStream, compressionCodec,
+            context.getCompressionLevel());
+        DataWriter dataWriter = createDataWriter(properties, dataOutputStream);
+        var meteredDataWriter = new MeteredDataWriter(dataWriter, metrics);
+        watermark = export(context, session, dataExporter, meteredDataWriter);
+        meteredDataWriter.close();
+        metrics.recordChildRows(dataWriter.getChildRowCount());
+        long uploadStart = System.nanoTime();
+        dataOutputStream.close();
+        metrics.recordUpload(countingStream.getBytes(), System.nanoTime() - uploadStart);
+        metrics.recordBlob(blobDescriptor.name());
+        uploads = CompletableFuture.completedFuture(null);
+      } catch (IOException | RuntimeException ex) {
+        outputStream.abort();
+        throw ex;
       }
     }
-    return dataExportResult;
+    var exportWatermark = watermark;
+    return uploads.thenRun(() -> {
+      if (exportWatermark != null) {
+        saveWatermark(context, resourceType, exportWatermark);
+      }
+    });
+  }
+
+  private DataWriter createDataWriter(DataExportProperties properties, OutputStream outputStream) {
+    DataWriter dataWriter = dataWriterProvider.create(properties, outputStream);
+    if (properties.outputFormat().isRaw() && !(dataWriter instanceof RawDataWriter)) {
+      throw new DataExportException(String.format("The output format %s of resource '%s' requires a data writer "
+              + "which implements RawDataWriter, but the data writer provider created %s.", properties.outputFormat(),
+          properties.resourceType().getName(), dataWriter.getClass().getName()));
+    }
+    return dataWriter;
+  }
+
+  /**
+   * @return the latest {@code lastModifiedAt} of the exported resources for incremental exports, otherwise
+   * {@code null}
+   */
+  private ZonedDateTime export(Context context, ExportSession session, DataExporter dataExporter,
+      DataWriter dataWriter) {
+    if (context.getExportStateStore() == null) {
+      runExporter(context, session, dataExporter, dataWriter);
+      return null;
+    }
+    var watermarkTracker = new WatermarkTrackingDataWriter(dataWriter);
+    runExporter(context, session, dataExporter, watermarkTracker);
+    return watermarkTracker.getWatermark();
+  }
+
+  /**
+   * Exporters of this library share the session with the exporters of the other resource types.
+   */
+  private static void runExporter(Context context, ExportSession session, DataExporter dataExporter,
+      DataWriter dataWriter) {
+    if (dataExporter instanceof SessionDataExporter sessionDataExporter) {
+      sessionDataExporter.export(context, session, dataWriter);
+    } else {
+      dataExporter.export(context, dataWriter);
+    }
+  }
+
+  /**
+   * A reference cache which cannot be saved only makes the next export slower, so the export does not fail.
+   */
+  private void saveReferenceCache(ExportSession session) {
+    try {
+      session.saveReferenceCache();
+    } catch (DataExportException e) {
+      LOG.warn("Could not save the reference cache.", e);
+    }
+  }
+
+  private void logMetrics(ExportableResourceType resourceType, ExportMetrics metrics) {
+    LOG.info("Exported {} rows and {} child item rows ({} bytes) of resource '{}' in {} ms, {} rows/s. {} pages, "
+            + "{} requests ({} failed), {} reference requests, {} reference cache hits, {} misses, page latency {}. "
+            + "Time spent in fetch: {} ms, write: {} ms, upload: {} ms.", metrics.rows(), metrics.childRows(),
+        metrics.bytes(), resourceType.getName(), metrics.totalTime().toMillis(), Math.round(metrics.rowsPerSecond()),
+        metrics.pages(), metrics.requests(), metrics.failedRequests(), metrics.referenceRequests(),
+        metrics.referenceCacheHits(), metrics.referenceCacheMisses(), metrics.pageLatency(),
+        metrics.fetchTime().toMillis(), metrics.writeTime().toMillis(), metrics.uploadTime().toMillis());
+  }
+
+  /**
+   * Resources modified while the export was running may have been exported in an older version. The watermark is
+   * therefore limited to the start of the export, so these resources are exported again by the next run.
+   */
+  private void saveWatermark(Context context, ExportableResourceType resourceType, ZonedDateTime watermark) {
+    var exportStart = ZonedDateTime.now(context.getClock());
+    var limitedWatermark = watermark.isAfter(exportStart) ? exportStart : watermark;
+    context.getExportStateStore().saveWatermark(resourceType, limitedWatermark);
+    LOG.info("Saved watermark '{}' for resource '{}'.", limitedWatermark, resourceType.getName());
+  }
+
+  /**
+   * @return the manifest listing the files of an export split into multiple files
+   */
+  private BlobDescriptor getManifestDescriptor(DataExportProperties properties, String timestamp) {
+    var resourceType = properties.resourceType();
+    return new BlobDescriptor(String.format("%s/%s_%s_manifest.json", resourceType.getPluralName(),
+        resourceType.getPluralName(), timestamp), "application/json", null);
   }
 
-  private String getBlobName(ExportableResourceType resourceType, Clock clock) {
-    return String.format("%ss/%ss_%s.csv", resourceType.getName(), resourceType.getName(),
-        LocalDateTime.now(clock).format(
-            DateTimeFormatter.ofPattern("yyyy_MM_dd_HH_mm_ss")));
+  /**
+   * @param sequence the sequence number of the file if the export is split into multiple files, otherwise
+   * {@code null}
+   */
+  private BlobDescriptor getBlobDescriptor(DataExportProperties properties, CompressionCodec compressionCodec,
+      String timestamp, Integer sequence) {
+    var resourceType = properties.resourceType();
+    var outputFormat = properties.outputFormat();
+    var name = String.format("%s/%s_%s%s.%s%s", resourceType.getPluralName(), resourceType.getPluralName(), timestamp,
+        sequence == null ? "" : String.format("_%05d", sequence), outputFormat.getFileExtension(),
+        compressionCodec.getFileSuffix());
+    return new BlobDescriptor(name, outputFormat.getContentType(), compressionCodec.getContentEncoding());
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exector;
+
+import com.commercetools.api.models.common.BaseResource;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.api.executor.RawDataWriter;
+import tech.bison.dataexport.core.api.executor.RawResource;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+/**
+ * Counts the written resources and the time spent in the data writer.
+ */
+class MeteredDataWriter implements DataWriter, RawDataWriter {
+
+  private final DataWriter delegate;
+  private final ExportMetricsRecorder metrics;
+
+  MeteredDataWriter(DataWriter delegate, ExportMetricsRecorder metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void writeRow(BaseResource object) {
+    long start = System.nanoTime();
+    delegate.writeRow(object);
+    metrics.recordRow(System.nanoTime() - start);
+  }
+
+  @Override
+  public void writeRaw(RawResource resource) {
+    long start = System.nanoTime();
+    RawDataWriter.of(delegate).writeRaw(resource);
+    metrics.recordRow(System.nanoTime() - start);
+  }
+
+  @Override
+  public void close() {
+    long start = System.nanoTime();
+    delegate.close();
+    metrics.recordWrite(System.nanoTime() - start);
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exector;
+
+import com.commercetools.api.models.common.BaseResource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.bison.dataexport.core.api.configuration.CompressionCodec;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.api.executor.RawDataWriter;
+import tech.bison.dataexport.core.api.executor.RawResource;
+import tech.bison.dataexport.core.api.storage.BlobDescriptor;
+import tech.bison.dataexport.core.api.storage.CloudStorageUploader;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+/**
+ * Splits the export of a resource type into multiple files. Every file is written to a temporary file first and
+ * uploaded in the background by the {@link CloudStorageUploader} as soon as it is complete, while the next file is
+ * written. If the configured number of uploads is running, writing blocks until an upload has finished, so the number
+ * of temporary files is bounded.
+ * <p>
+ * Every file is published on its own, so a failed export leaves the files behind which were already uploaded or
+ * whose upload was running. A manifest listing all files is uploaded last, once every file is published. Downstream
+ * loaders only read the files of exports which have a manifest; a failed export never gets one.
+ */
+class RollingDataWriter implements DataWriter, RawDataWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RollingDataWriter.class);
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private final CloudStorageUploader cloudStorageUploader;
+  private final Function<OutputStream, DataWriter> dataWriterFactory;
+  private final IntFunction<BlobDescriptor> blobDescriptors;
+  private final BlobDescriptor manifest;
+  private final CompressionCodec compressionCodec;
+  private final int compressionLevel;
+  private final long maxRowsPerFile;
+  private final long maxBytesPerFile;
+  private final Semaphore uploadPermits;
+  private final ExportMetricsRecorder metrics;
+  private final List<CompletableFuture<Void>> uploads = new ArrayList<>();
+  private final List<String> blobNames = new ArrayList<>();
+  private Chunk chunk;
+  private int sequence;
+
+  /**
+   * @param dataWriterFactory creates the data writer of every file
+   * @param blobDescriptors creates the blob of the file with the given sequence number, starting with 1
+   * @param manifest the blob of the manifest which is uploaded after all files
+   */
+  RollingDataWriter(Context context, CloudStorageUploader cloudStorageUploader,
+      Function<OutputStream, DataWriter> dataWriterFactory, CompressionCodec compressionCodec,
+      IntFunction<BlobDescriptor> blobDescriptors, BlobDescriptor manifest, ExportMetricsRecorder metrics) {
+    this.cloudStorageUploader = cloudStorageUploader;
+    this.metrics = metrics;
+    this.dataWriterFactory = dataWriterFactory;
+    this.blobDescriptors = blobDescriptors;
+    this.manifest = manifest;
+    this.compressionCodec = compressionCodec;
+    this.compressionLevel = context.getCompressionLevel();
+    this.maxRowsPerFile = context.getMaxRowsPerFile();
+    this.maxBytesPerFile = context.getMaxBytesPerFile();
+    this.uploadPermits = new Semaphore(context.getMaxConcurrentUploads());
+  }
+
+  @Override
+  public void writeRow(BaseResource object) {
+    currentChunk().dataWriter.writeRow(object);
+    rollIfFull();
+  }
+
+  @Override
+  public void writeRaw(RawResource resource) {
+    RawDataWriter.of(currentChunk().dataWriter).writeRaw(resource);
+    rollIfFull();
+  }
+
+  /**
+   * Uploads the last file and waits until all files are uploaded.
+   */
+  @Override
+  public void close() {
+    try {
+      finish().join();
+    } catch (CompletionException e) {
+      throw new DataExportException("Could not upload export file.", e.getCause());
+    }
+  }
+
+  /**
+   * Starts the upload of the last file. Without any rows, one empty file is uploaded.
+   *
+   * @return completes when all files and the manifest are uploaded, or exceptionally if an upload failed
+   */
+  CompletableFuture<Void> finish() {
+    if (chunk != null || sequence == 0) {
+      finishChunk(currentChunk());
+    }
+    return CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).thenRun(this::uploadManifest);
+  }
+
+  /**
+   * Discards the current file without uploading it. Uploads which already started are not interrupted, as an uploader
+   * cannot take back a file it is publishing; they run to completion and their files stay published. The manifest is
+   * never uploaded, so the export stays incomplete for downstream loaders.
+   *
+   * @return completes, never exceptionally, when the started uploads have finished and their temporary files are
+   *     deleted
+   */
+  CompletableFuture<Void> abort() {
+    if (chunk != null) {
+      chunk.discard();
+      chunk = null;
+    }
+    return CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).exceptionally(failure -> null);
+  }
+
+  private void uploadManifest() {
+    try {
+      cloudStorageUploader.upload(manifest, OBJECT_MAPPER.writeValueAsBytes(Map.of("files", blobNames)));
+    } catch (JsonProcessingException e) {
+      throw new DataExportException("Could not create the export manifest.", e);
+    }
+    metrics.recordBlob(manifest.name());
+  }
+
+  private Chunk currentChunk() {
+    if (chunk == null) {
+      try {
+        chunk = new Chunk(++sequence);
+      } catch (IOException e) {
+        throw new DataExportException("Could not create temporary export file.", e);
+      }
+    }
+    return chunk;
+  }
+
+  private void rollIfFull() {
+    chunk.rows++;
+    if ((maxRowsPerFile > 0 && chunk.rows >= maxRowsPerFile)
+        || (maxBytesPerFile > 0 && chunk.countingStream.getBytes() >= maxBytesPerFile)) {
+      finishChunk(chunk);
+    }
+  }
+
+  private void finishChunk(Chunk completed) {
+    chunk = null;
+    try {
+      completed.dataWriter.close();
+      completed.dataOutputStream.close();
+      metrics.recordChildRows(completed.dataWriter.getChildRowCount());
+    } catch (IOException | RuntimeException e) {
+      completed.discard();
+      throw new DataExportException(String.format("Could not finish export file %d.", completed.sequence), e);
+    }
+    failOnCompletedUploadErrors();
+    try {
+      uploadPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      completed.discard();
+      throw new DataExportException("Interrupted while waiting for a free upload.", e);
+    }
+    long bytes = completed.countingStream.getBytes();
+    long uploadStart = System.nanoTime();
+    var blobDescriptor = blobDescriptors.apply(completed.sequence);
+    blobNames.add(blobDescriptor.name());
+    CompletableFuture<Void> upload;
+    try {
+      upload = cloudStorageUploader.uploadAsync(blobDescriptor, completed.file);
+    } catch (RuntimeException e) {
+      upload = CompletableFuture.failedFuture(e);
+    }
+    uploads.add(upload.whenComplete((ignored, failure) -> {
+      metrics.recordUpload(bytes, System.nanoTime() - uploadStart);
+      if (failure == null) {
+        metrics.recordBlob(blobDescriptor.name());
+      }
+      completed.deleteFile();
+      uploadPermits.release();
+    }));
+  }
+
+  private void failOnCompletedUploadErrors() {
+    for (var upload : uploads) {
+      if (upload.isCompletedExceptionally()) {
+        try {
+          upload.join();
+        } catch (CompletionException e) {
+          throw new DataExportException("Could not upload export file.", e.getCause());
+        }
+      }
+    }
+  }
+
+  /**
+   * A file which is being written.
+   */
+  private final class Chunk {
+
+    private final int sequence;
+    private final Path file;
+    private final CountingOutputStream countingStream;
+    private final OutputStream dataOutputStream;
+    private final DataWriter dataWriter;
+    private long rows;
+
+    private Chunk(int sequence) throws IOException {
+      this.sequence = sequence;
+      this.file = Files.createTempFile("dataexport-", ".part");
+      try {
+        this.countingStream = new CountingOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+        this.dataOutputStream = CompressionStreams.compress(countingStream, compressionCodec, compressionLevel);
+        this.dataWriter = dataWriterFactory.apply(dataOutputStream);
+      } catch (IOException | RuntimeException e) {
+        Files.deleteIfExists(file);
+        throw e;
+      }
+    }
+
+    private void discard() {
+      try {
+        dataOutputStream.close();
+      } catch (IOException | RuntimeException e) {
+        // the file is deleted anyway
+      }
+      deleteFile();
+    }
+
+    private void deleteFile() {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        LOG.warn("Could not delete temporary export file '{}'.", file, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exector;
+
+import com.commercetools.api.models.common.BaseResource;
+import java.time.ZonedDateTime;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.api.executor.RawDataWriter;
+import tech.bison.dataexport.core.api.executor.RawResource;
+
+/**
+ * Keeps track of the latest {@code lastModifiedAt} of all written resources.
+ */
+class WatermarkTrackingDataWriter implements DataWriter, RawDataWriter {
+
+  private final DataWriter delegate;
+  private ZonedDateTime watermark;
+
+  WatermarkTrackingDataWriter(DataWriter delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void writeRow(BaseResource object) {
+    delegate.writeRow(object);
+    track(object.getLastModifiedAt());
+  }
+
+  @Override
+  public void writeRaw(RawResource resource) {
+    RawDataWriter.of(delegate).writeRaw(resource);
+    track(resource.getLastModifiedAt());
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  private void track(ZonedDateTime lastModifiedAt) {
+    if (lastModifiedAt != null && (watermark == null || lastModifiedAt.isAfter(watermark))) {
+      watermark = lastModifiedAt;
+    }
+  }
+
+  /**
+   * @return the latest {@code lastModifiedAt} or {@code null} if no resource was written
+   */
+  ZonedDateTime getWatermark() {
+    return watermark;
+  }
+}
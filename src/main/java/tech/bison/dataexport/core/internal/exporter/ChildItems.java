@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.function.Function;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+
+/**
+ * Child items of a resource which are written as separate rows, e.g. the line items of an order. The fields of child
+ * items are configured with the name of the child items as prefix, e.g. {@code lineItems.quantity}.
+ *
+ * @param name the field name of the child items
+ * @param itemType the model type of the child items
+ * @param items returns the child items of a resource, never {@code null}
+ * @param nested the child items of every child item, e.g. the prices of a product variant, or {@code null}. If fields
+ * of nested items are configured, every nested item is written as a row which repeats the fields of its parent item.
+ */
+public record ChildItems(String name, Class<?> itemType, Function<Object, List<?>> items, ChildItems nested) {
+
+  /**
+   * @return the child items read by the getter of the given field
+   * @throws DataExportException if the type has no getter returning a list of model types for the field
+   */
+  public static ChildItems of(Class<?> resourceType, String name) {
+    var getter = ModelGetters.find(resourceType, name);
+    var itemType = getter != null ? ModelGetters.elementType(getter) : null;
+    var handle = getter != null ? ModelGetters.toHandle(getter) : null;
+    if (itemType == null || handle == null) {
+      throw new DataExportException(
+          String.format("Child items '%s' are not supported for '%s'.", name, resourceType.getSimpleName()));
+    }
+    return new ChildItems(name, itemType, resource -> invoke(handle, resource), null);
+  }
+
+  /**
+   * @return these child items with the given nested items
+   */
+  public ChildItems withNested(ChildItems nested) {
+    return new ChildItems(name, itemType, items, nested);
+  }
+
+  private static List<?> invoke(MethodHandle getter, Object resource) {
+    try {
+      var children = (List<?>) (Object) getter.invokeExact(resource);
+      return children != null ? children : List.of();
+    } catch (Throwable e) {
+      throw new DataExportException("Could not read child items.", e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+/**
+ * The type of an exported column. Typed values of the columns are represented by these java types:
+ * <ul>
+ *   <li>{@link #STRING}: {@code String}</li>
+ *   <li>{@link #INT64}: {@code Long}</li>
+ *   <li>{@link #DOUBLE}: {@code Double}, money values are the amount in the main currency unit</li>
+ *   <li>{@link #BOOLEAN}: {@code Boolean}</li>
+ *   <li>{@link #TIMESTAMP}: {@code Long} with the milliseconds since epoch in UTC</li>
+ *   <li>{@link #DATE}: {@code Integer} with the days since epoch</li>
+ * </ul>
+ */
+public enum ColumnType {
+  STRING, INT64, DOUBLE, BOOLEAN, TIMESTAMP, DATE
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.internal.exporter.references.ReferenceCache;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+/**
+ * The state shared by the exports of all resource types of one execution: the metrics recorders, the request
+ * controller and the reference cache. The executor creates one session per execution and passes it to the exporters.
+ */
+public final class ExportSession {
+
+  private final Context context;
+  private final Map<ExportableResourceType, ExportMetricsRecorder> metricsRecorders = new ConcurrentHashMap<>();
+  private RequestController requestController;
+  private ReferenceCache referenceCache;
+
+  public ExportSession(Context context) {
+    this.context = context;
+  }
+
+  /**
+   * @return the metrics of the current export of the resource type
+   */
+  public ExportMetricsRecorder getMetricsRecorder(ExportableResourceType resourceType) {
+    return metricsRecorders.computeIfAbsent(resourceType, type -> new ExportMetricsRecorder(type,
+        Objects.requireNonNullElse(context.getMetricsListener(), ExportMetricsListener.NONE)));
+  }
+
+  /**
+   * @return the controller of the requests of all exports, which limits the concurrent requests and retries failed
+   * requests
+   */
+  public synchronized RequestController getRequestController() {
+    if (requestController == null) {
+      requestController = new RequestController(context.getMaxConcurrentRequests(), context.getMaxRequestAttempts(),
+          context.getInitialRetryBackoff());
+    }
+    return requestController;
+  }
+
+  /**
+   * @return the cache of referenced resources shared by the exports of all resource types, restored from the cache file
+   * of the previous export on first use
+   */
+  public synchronized ReferenceCache getReferenceCache() {
+    if (referenceCache == null) {
+      referenceCache = new ReferenceCache(context.getReferenceCacheSize(), JsonUtils.createObjectMapper(),
+          context.getReferenceCacheFile(), context.getClock());
+    }
+    return referenceCache;
+  }
+
+  /**
+   * Saves the reference cache for the next export if it was used and a cache file is configured.
+   */
+  public synchronized void saveReferenceCache() {
+    if (referenceCache != null) {
+      referenceCache.save();
+    }
+  }
+}
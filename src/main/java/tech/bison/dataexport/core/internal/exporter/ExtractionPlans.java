@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+
+/**
+ * Compiles the extraction plan of the exported model type and child items of a resource type.
+ */
+public final class ExtractionPlans {
+
+  private ExtractionPlans() {
+  }
+
+  public static FieldExtractionPlan forResource(DataExportProperties properties, ObjectMapper objectMapper) {
+    var definition = ResourceRegistry.get(properties.resourceType());
+    return FieldExtractionPlan.compile(properties.fields(), definition.modelType(), definition.childItems(),
+        objectMapper);
+  }
+}
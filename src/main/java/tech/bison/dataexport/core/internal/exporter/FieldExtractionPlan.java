@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Immutable extraction plan compiled once from the configured export fields. The fields are split into resource, child
+ * item and nested item fields, resolved to typed accessors where possible and every field keeps the column index of
+ * its position in the configured field list.
+ */
+public final class FieldExtractionPlan {
+
+  private final int columnCount;
+  private final List<ColumnType> columnTypes;
+  private final ObjectMapper objectMapper;
+  private final List<FieldExtractor> resourceFields;
+  private final ChildItems childItems;
+  private final List<FieldExtractor> childFields;
+  private final List<FieldExtractor> nestedFields;
+
+  private FieldExtractionPlan(int columnCount, ObjectMapper objectMapper, List<FieldExtractor> resourceFields,
+      ChildItems childItems, List<FieldExtractor> childFields, List<FieldExtractor> nestedFields) {
+    this.columnCount = columnCount;
+    this.objectMapper = objectMapper;
+    var types = new ColumnType[columnCount];
+    resourceFields.forEach(field -> types[field.column()] = field.columnType());
+    childFields.forEach(field -> types[field.column()] = field.columnType());
+    nestedFields.forEach(field -> types[field.column()] = field.columnType());
+    this.columnTypes = List.of(types);
+    this.resourceFields = resourceFields;
+    this.childItems = childItems;
+    this.childFields = childFields;
+    this.nestedFields = nestedFields;
+  }
+
+  public static FieldExtractionPlan compile(List<String> fields, Class<?> resourceType, ObjectMapper objectMapper) {
+    return compile(fields, resourceType, (ChildItems) null, objectMapper);
+  }
+
+  /**
+   * @param fields the configured export fields
+   * @param resourceType the commercetools model type of the exported resource
+   * @param childCollection the field name of the child items, e.g. {@code lineItems}, or {@code null} if the resource
+   * type has no child items
+   * @param objectMapper the object mapper used for fields without typed accessor
+   */
+  public static FieldExtractionPlan compile(List<String> fields, Class<?> resourceType, String childCollection,
+      ObjectMapper objectMapper) {
+    var childPrefix = childCollection + ".";
+    boolean hasChildFields = childCollection != null
+        && fields.stream().anyMatch(field -> field.startsWith(childPrefix));
+    return compile(fields, resourceType, hasChildFields ? ChildItems.of(resourceType, childCollection) : null,
+        objectMapper);
+  }
+
+  /**
+   * @param fields the configured export fields
+   * @param resourceType the commercetools model type of the exported resource
+   * @param childItems the child items of the resource type or {@code null} if the resource type has no child items
+   * @param objectMapper the object mapper used for fields without typed accessor
+   */
+  public static FieldExtractionPlan compile(List<String> fields, Class<?> resourceType, ChildItems childItems,
+      ObjectMapper objectMapper) {
+    var resourceFields = new ArrayList<FieldExtractor>();
+    var childFields = new ArrayList<FieldExtractor>();
+    var nestedFields = new ArrayList<FieldExtractor>();
+    var childPrefix = childItems != null ? childItems.name() + "." : null;
+    var nested = childItems != null ? childItems.nested() : null;
+    var nestedPrefix = nested != null ? nested.name() + "." : null;
+    for (int column = 0; column < fields.size(); column++) {
+      var field = fields.get(column);
+      if (childPrefix == null || !field.startsWith(childPrefix)) {
+        resourceFields.add(FieldExtractor.compile(column, resourceType, field));
+        continue;
+      }
+      var childField = field.substring(childPrefix.length());
+      if (nestedPrefix != null && childField.startsWith(nestedPrefix)) {
+        var nestedField = childField.substring(nestedPrefix.length());
+        nestedFields.add(FieldExtractor.compile(column, nested.itemType(), nestedField));
+      } else {
+        childFields.add(FieldExtractor.compile(column, childItems.itemType(), childField));
+      }
+    }
+    return new FieldExtractionPlan(fields.size(), objectMapper, List.copyOf(resourceFields), childItems,
+        List.copyOf(childFields), List.copyOf(nestedFields));
+  }
+
+  /**
+   * Extracts the row of the resource itself followed by one row per child item if child item fields are configured.
+   * Columns of child item fields are empty in the resource row and columns of resource fields are empty in child item
+   * rows. If nested item fields are configured, a child item has one row per nested item instead.
+   *
+   * @return the number of child item rows
+   */
+  public int forEachRow(Object resource, Consumer<List<String>> rowConsumer) {
+    rowConsumer.accept(extract(new RowSource(resource, objectMapper), resourceFields, null));
+    return forEachChildRow(resource,
+        (child, nestedItem) -> rowConsumer.accept(extract(child, childFields, nestedItem)));
+  }
+
+  /**
+   * Same as {@link #forEachRow(Object, Consumer)} but with typed values according to the {@link #columnTypes()}.
+   * Columns without value are {@code null}.
+   *
+   * @return the number of child item rows
+   */
+  public int forEachValueRow(Object resource, Consumer<Object[]> rowConsumer) {
+    rowConsumer.accept(extractValues(new RowSource(resource, objectMapper), resourceFields, null));
+    return forEachChildRow(resource,
+        (child, nestedItem) -> rowConsumer.accept(extractValues(child, childFields, nestedItem)));
+  }
+
+  /**
+   * @return the column types in the order of the configured fields
+   */
+  public List<ColumnType> columnTypes() {
+    return columnTypes;
+  }
+
+  /**
+   * Passes the source of every child item row to the row writer, together with the nested item of the row or
+   * {@code null}.
+   */
+  private int forEachChildRow(Object resource, BiConsumer<RowSource, RowSource> rowWriter) {
+    if (childFields.isEmpty() && nestedFields.isEmpty()) {
+      return 0;
+    }
+    int rows = 0;
+    for (Object child : childItems.items().apply(resource)) {
+      var childSource = new RowSource(child, objectMapper);
+      List<?> nestedItems = nestedFields.isEmpty() ? List.of() : childItems.nested().items().apply(child);
+      if (nestedItems.isEmpty()) {
+        rowWriter.accept(childSource, null);
+        rows++;
+        continue;
+      }
+      for (Object nestedItem : nestedItems) {
+        rowWriter.accept(childSource, new RowSource(nestedItem, objectMapper));
+        rows++;
+      }
+    }
+    return rows;
+  }
+
+  private List<String> extract(RowSource source, List<FieldExtractor> extractors, RowSource nestedSource) {
+    var values = new String[columnCount];
+    Arrays.fill(values, "");
+    for (FieldExtractor extractor : extractors) {
+      values[extractor.column()] = extractor.extract(source);
+    }
+    if (nestedSource != null) {
+      for (FieldExtractor extractor : nestedFields) {
+        values[extractor.column()] = extractor.extract(nestedSource);
+      }
+    }
+    return Arrays.asList(values);
+  }
+
+  private Object[] extractValues(RowSource source, List<FieldExtractor> extractors, RowSource nestedSource) {
+    var values = new Object[columnCount];
+    for (FieldExtractor extractor : extractors) {
+      values[extractor.column()] = extractor.extractValue(source);
+    }
+    if (nestedSource != null) {
+      for (FieldExtractor extractor : nestedFields) {
+        values[extractor.column()] = extractor.extractValue(nestedSource);
+      }
+    }
+    return values;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+/**
+ * Reads the value of one configured field from a row and formats it for the export.
+ */
+public interface FieldExtractor {
+
+  /**
+   * @return the column index of the field in the exported row
+   */
+  int column();
+
+  /**
+   * @return the type of the extracted values
+   */
+  ColumnType columnType();
+
+  /**
+   * @return the value formatted as text, an empty string if the field has no value
+   */
+  String extract(RowSource source);
+
+  /**
+   * @return the typed value as described by the {@link #columnType()}, {@code null} if the field has no value
+   */
+  Object extractValue(RowSource source);
+
+  /**
+   * Compiles the given field path. Paths which can be resolved to getters of the model type are read with typed
+   * accessors, all others fall back to a json pointer on the json tree of the row.
+   */
+  static FieldExtractor compile(int column, Class<?> modelType, String path) {
+    FieldExtractor typedExtractor = TypedFieldExtractor.resolve(column, modelType, path);
+    if (typedExtractor != null) {
+      return typedExtractor;
+    }
+    return JsonFieldExtractor.of(column, path);
+  }
+}
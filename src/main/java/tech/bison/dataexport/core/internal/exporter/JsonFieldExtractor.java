@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.models.common.CentPrecisionMoney;
+import com.commercetools.api.models.common.HighPrecisionMoney;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Fallback extractor for fields without typed accessor, e.g. custom fields. The json pointer is parsed once when the
+ * extractor is created.
+ */
+record JsonFieldExtractor(int column, JsonPointer pointer) implements FieldExtractor {
+
+  private static final String TYPE = "type";
+  private static final String CENT_AMOUNT = "centAmount";
+  private static final String PRECISE_AMOUNT = "preciseAmount";
+  private static final String FRACTION_DIGITS = "fractionDigits";
+
+  static JsonFieldExtractor of(int column, String path) {
+    return new JsonFieldExtractor(column, JsonPointer.compile("/" + path.replace(".", "/")));
+  }
+
+  @Override
+  public ColumnType columnType() {
+    return ColumnType.STRING;
+  }
+
+  @Override
+  public Object extractValue(RowSource source) {
+    var value = extract(source);
+    return value.isEmpty() ? null : value;
+  }
+
+  @Override
+  public String extract(RowSource source) {
+    JsonNode value = source.tree().at(pointer);
+    if (value.isObject()) {
+      return formatObject(value);
+    }
+    return value.asText("");
+  }
+
+  private static String formatObject(JsonNode value) {
+    JsonNode type = value.get(TYPE);
+    if (type != null && CentPrecisionMoney.CENT_PRECISION.equals(type.asText())) {
+      return String.valueOf(value.get(CENT_AMOUNT).asLong() / 100d);
+    }
+    if (type != null && HighPrecisionMoney.HIGH_PRECISION.equals(type.asText())) {
+      return String.valueOf(ValueFormatters.preciseAmount(value.path(PRECISE_AMOUNT).asLong(),
+          value.path(FRACTION_DIGITS).asInt()));
+    }
+    return "";
+  }
+}
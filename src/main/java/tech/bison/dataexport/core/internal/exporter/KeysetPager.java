@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Pages through resources with an id based cursor. In contrast to offset paging the query cost is the same for every
+ * page and there is no upper limit for the number of pages.
+ */
+public final class KeysetPager<T> {
+
+  private final ResourceQuery<T> query;
+  private final ResourceKeys<T> keys;
+  private final long pageSize;
+
+  public KeysetPager(ResourceQuery<T> query, ResourceKeys<T> keys, long pageSize) {
+    this.query = query;
+    this.keys = keys;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * @param predicate an additional where predicate or {@code null} to page through all resources
+   * @param pageConsumer receives every non-empty page in id order
+   */
+  public void forEachPage(String predicate, Consumer<List<T>> pageConsumer) {
+    String lastId = null;
+    ResultPage<T> response;
+    do {
+      response = query.fetch(where(predicate, lastId), "id asc", pageSize);
+      var results = response.results();
+      if (!results.isEmpty()) {
+        pageConsumer.accept(results);
+        lastId = keys.id(results.get(results.size() - 1));
+      }
+    } while (response.count() >= pageSize);
+  }
+
+  private static String where(String predicate, String lastId) {
+    if (lastId == null) {
+      return predicate;
+    }
+    return Predicates.and(predicate, String.format("id > \"%s\"", lastId));
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+/**
+ * Records the latency of every query attempt. Wrapped by the {@link RetryingResourceQuery}, every retry and every
+ * failed attempt is recorded as request of its own.
+ */
+public final class MeteredResourceQuery<T> implements ResourceQuery<T> {
+
+  private final ResourceQuery<T> delegate;
+  private final ExportMetricsRecorder metrics;
+
+  public MeteredResourceQuery(ResourceQuery<T> delegate, ExportMetricsRecorder metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public ResultPage<T> fetch(String where, String sort, long limit) {
+    long start = System.nanoTime();
+    ResultPage<T> page;
+    try {
+      page = delegate.fetch(where, sort, limit);
+    } catch (RuntimeException | Error e) {
+      metrics.recordFailedPage(System.nanoTime() - start);
+      throw e;
+    }
+    metrics.recordPage(page.results().size(), System.nanoTime() - start);
+    return page;
+  }
+}
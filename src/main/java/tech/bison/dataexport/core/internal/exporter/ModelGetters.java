@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+
+/**
+ * Resolves the getters of the commercetools model interfaces by the field names of the api.
+ */
+public final class ModelGetters {
+
+  private ModelGetters() {
+  }
+
+  /**
+   * @return the getter of the given field or {@code null} if the type has no such getter
+   */
+  public static Method find(Class<?> type, String field) {
+    if (field.isEmpty()) {
+      return null;
+    }
+    try {
+      var method = type.getMethod("get" + Character.toUpperCase(field.charAt(0)) + field.substring(1));
+      return method.getReturnType() == void.class ? null : method;
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return a method handle of type {@code (Object)Object} for the given getter or {@code null} if it is not
+   * accessible
+   */
+  public static MethodHandle toHandle(Method getter) {
+    try {
+      return MethodHandles.publicLookup().unreflect(getter)
+          .asType(MethodType.methodType(Object.class, Object.class));
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return the element type of a getter returning a {@code List}, or {@code null} if it cannot be determined
+   */
+  public static Class<?> elementType(Method getter) {
+    if (getter.getGenericReturnType() instanceof ParameterizedType parameterizedType
+        && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+      return elementType;
+    }
+    return null;
+  }
+}
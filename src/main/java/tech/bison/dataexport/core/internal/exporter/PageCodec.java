@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Serializes the pages of a slice which are spooled to a temporary file until the consumer reaches the slice.
+ */
+public interface PageCodec<T> {
+
+  byte[] encode(List<T> page) throws IOException;
+
+  List<T> decode(byte[] bytes) throws IOException;
+
+  /**
+   * @return a codec which writes the pages as json arrays of the given model type
+   */
+  static <T> PageCodec<T> json(Class<T> modelType, ObjectMapper objectMapper) {
+    JavaType pageType = objectMapper.getTypeFactory().constructCollectionType(List.class, modelType);
+    return new PageCodec<>() {
+      @Override
+      public byte[] encode(List<T> page) throws IOException {
+        return objectMapper.writerFor(pageType).writeValueAsBytes(page);
+      }
+
+      @Override
+      public List<T> decode(byte[] bytes) throws IOException {
+        return objectMapper.readValue(bytes, pageType);
+      }
+    };
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+/**
+ * Fetches the pages of a resource type in a bounded producer/consumer pipeline. The pages are fetched on separate
+ * threads while the consumer processes the previous pages. A producer which is the configured number of pages ahead
+ * of the consumer blocks until the consumer catches up.
+ * <p>
+ * With more than one slice, the {@code createdAt} range of the resource type is split into slices which are fetched
+ * concurrently, each with its own id cursor. The pages are passed to the consumer slice by slice, so the order of the
+ * pages is deterministic. The slices the consumer has not reached yet spool their pages to temporary files, so every
+ * slice is fetched at full speed.
+ */
+public final class PageFetcher<T> {
+
+  private final ResourceQuery<T> query;
+  private final ResourceKeys<T> keys;
+  private final PageCodec<T> codec;
+  private final KeysetPager<T> pager;
+  private final int slices;
+  private final int prefetchPages;
+  private final ThreadFactory threadFactory;
+
+  /**
+   * @param codec serializes the pages of the slices which are spooled to temporary files
+   * @param slices the number of createdAt slices fetched concurrently
+   * @param prefetchPages the number of pages each producer may fetch ahead of the consumer, 0 to fetch and consume
+   * alternately on the calling thread
+   */
+  public PageFetcher(ResourceQuery<T> query, ResourceKeys<T> keys, PageCodec<T> codec, long pageSize, int slices,
+      int prefetchPages, ThreadFactory threadFactory) {
+    this.query = query;
+    this.keys = keys;
+    this.codec = codec;
+    this.pager = new KeysetPager<>(query, keys, pageSize);
+    this.slices = slices;
+    this.prefetchPages = prefetchPages;
+    this.threadFactory = threadFactory;
+  }
+
+  /**
+   * @param predicate a where predicate or {@code null} to fetch all resources
+   * @param pageConsumer receives every non-empty page
+   */
+  public void forEachPage(String predicate, Consumer<List<T>> pageConsumer) {
+    var slicePredicates = slices > 1 ? createSlicePredicates(predicate) : List.<String>of();
+    if (slicePredicates.size() <= 1 && prefetchPages == 0) {
+      pager.forEachPage(predicate, pageConsumer);
+      return;
+    }
+    if (slicePredicates.size() <= 1) {
+      slicePredicates = Collections.singletonList(predicate);
+    }
+    var buffers = new ArrayList<SliceBuffer<T>>();
+    try {
+      try (var executorService = Executors.newThreadPerTaskExecutor(threadFactory)) {
+        for (String slicePredicate : slicePredicates) {
+          var buffer = new SliceBuffer<>(codec, Math.max(1, prefetchPages), buffers.isEmpty());
+          buffers.add(buffer);
+          executorService.execute(() -> fetchSlice(slicePredicate, buffer));
+        }
+        try {
+          for (var buffer : buffers) {
+            drain(buffer, pageConsumer);
+          }
+        } catch (RuntimeException | Error e) {
+          buffers.forEach(SliceBuffer::cancel);
+          executorService.shutdownNow();
+          throw e;
+        }
+      }
+    } finally {
+      buffers.forEach(SliceBuffer::close);
+    }
+  }
+
+  private List<String> createSlicePredicates(String predicate) {
+    var oldest = query.fetch(predicate, "createdAt asc", 1).results();
+    if (oldest.isEmpty()) {
+      return List.of();
+    }
+    var newest = query.fetch(predicate, "createdAt desc", 1).results();
+    Instant start = keys.createdAt(oldest.get(0)).toInstant();
+    Instant end = keys.createdAt(newest.get(0)).toInstant().plusMillis(1);
+    long sliceMillis = Math.max(1, Duration.between(start, end).toMillis() / slices);
+    var predicates = new ArrayList<String>();
+    Instant from = start;
+    for (int i = 0; i < slices && from.isBefore(end); i++) {
+      Instant to = i == slices - 1 ? end : from.plusMillis(sliceMillis);
+      if (to.isAfter(end)) {
+        to = end;
+      }
+      predicates.add(Predicates.and(predicate, String.format("createdAt >= \"%s\" and createdAt < \"%s\"",
+          DateTimeFormatter.ISO_INSTANT.format(from), DateTimeFormatter.ISO_INSTANT.format(to))));
+      from = to;
+    }
+    return predicates;
+  }
+
+  private void fetchSlice(String slicePredicate, SliceBuffer<T> buffer) {
+    Throwable failure = null;
+    try {
+      pager.forEachPage(slicePredicate, buffer::put);
+    } catch (CancellationException e) {
+      // the consumer has stopped, nobody is waiting for the remaining pages
+    } catch (Throwable e) {
+      failure = e;
+    } finally {
+      buffer.finish(failure);
+    }
+  }
+
+  private void drain(SliceBuffer<T> buffer, Consumer<List<T>> pageConsumer) {
+    buffer.activate();
+    for (var page = buffer.take(); page != null; page = buffer.take()) {
+      pageConsumer.accept(page);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.common.BaseResource;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.configuration.FetchMode;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.executor.RawDataWriter;
+import tech.bison.dataexport.core.api.executor.RawResource;
+import tech.bison.dataexport.core.internal.exporter.filter.CompiledFilter;
+import tech.bison.dataexport.core.internal.exporter.graphql.GraphQlResourceQuery;
+import tech.bison.dataexport.core.internal.exporter.graphql.GraphQlSelection;
+import tech.bison.dataexport.core.internal.exporter.ndjson.RawPageParser;
+import tech.bison.dataexport.core.internal.exporter.references.CachingReferenceLoader;
+import tech.bison.dataexport.core.internal.exporter.references.QueryReferenceLoader;
+import tech.bison.dataexport.core.internal.exporter.references.ReferenceResolver;
+
+/**
+ * Exports a resource type by paging through its {@link QueryEndpoint}. The resources are paged with an id cursor,
+ * optionally in concurrent createdAt slices, failed queries are retried and incremental exports only query the
+ * resources modified since the last export. Raw output formats get the json of the resources without deserializing
+ * it. With {@link FetchMode#GRAPHQL}, resource types with a GraphQL query field only fetch the configured fields.
+ * Configured filters are added to the where predicate, conditions which cannot be expressed there are evaluated on the
+ * fetched resources before they are written. References read by the fields are resolved with one query per page and
+ * reference type, slowly changing referenced resources are cached for all resource types of the export.
+ */
+public abstract class PagedResourceExporter<T extends BaseResource> implements SessionDataExporter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PagedResourceExporter.class);
+  /**
+   * Incremental exports start this long before the watermark. A resource modified in the same millisecond as the
+   * watermark, or with a lastModifiedAt of a server whose clock is slightly behind, may only have become visible after
+   * the previous export read its last page.
+   */
+  private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+  private final ExportableResourceType resourceType;
+  private final long pageSize;
+
+  protected PagedResourceExporter(ExportableResourceType resourceType, long pageSize) {
+    this.resourceType = resourceType;
+    this.pageSize = pageSize;
+  }
+
+  protected abstract QueryEndpoint<T> endpoint(ProjectApiRoot projectApiRoot);
+
+  /**
+   * @return the GraphQL query field of the resource type, e.g. {@code orders}, or {@code null} if the resource type is
+   * always fetched with REST
+   */
+  protected String graphQlQueryField() {
+    return null;
+  }
+
+  @Override
+  public void export(Context context, ExportSession session, DataWriter dataWriter) {
+    var endpoint = endpoint(context.getProjectApiRoot());
+    var properties = context.getResourceExportProperties().get(resourceType);
+    var filter = CompiledFilter.compile(properties != null ? properties.filter() : null);
+    var metrics = session.getMetricsRecorder(resourceType);
+    var predicate = Predicates.and(context.getWatermark(resourceType)
+        .map(watermark -> Predicates.modifiedSince(watermark.minus(WATERMARK_OVERLAP))).orElse(null),
+        filter.wherePredicate());
+    if (properties != null && properties.outputFormat().isRaw()) {
+      var rawDataWriter = RawDataWriter.of(dataWriter);
+      var parser = RawPageParser.forFields(properties.fields());
+      ResourceQuery<RawResource> query = (where, sort, limit) -> parser.parse(endpoint.fetchRaw(where, sort, limit));
+      pageFetcher(context, session, query, RawPageParser.KEYS, RawPageParser.CODEC)
+          .forEachPage(predicate, resources -> {
+            metrics.recordExportedPage();
+            resources.forEach(rawDataWriter::writeRaw);
+          });
+      return;
+    }
+    ResourceQuery<T> query = graphQlQuery(context, properties, filter)
+        .orElse((where, sort, limit) -> ResultPage.of(endpoint.fetch(where, sort, limit)));
+    var references = referenceResolver(properties, filter);
+    var referenceLoader = new CachingReferenceLoader(new QueryReferenceLoader(context.getProjectApiRoot(),
+        session.getRequestController(), metrics), session.getReferenceCache(), metrics);
+    var objectMapper = JsonUtils.createObjectMapper();
+    var codec = PageCodec.json(modelType(), objectMapper);
+    pageFetcher(context, session, query, ResourceKeys.model(), codec).forEachPage(predicate, resources -> {
+      metrics.recordExportedPage();
+      if (!references.isEmpty()) {
+        references.resolve(resources, referenceLoader);
+      }
+      for (T resource : resources) {
+        if (!filter.hasClientConditions() || filter.matches(new RowSource(resource, objectMapper))) {
+          dataWriter.writeRow(resource);
+        }
+      }
+    });
+  }
+
+  private ReferenceResolver referenceResolver(DataExportProperties properties, CompiledFilter filter) {
+    var exportFields = properties != null ? properties.fields() : List.<String>of();
+    var fields = Stream.concat(exportFields.stream(), filter.clientFields().stream()).toList();
+    return ReferenceResolver.compile(fields, ResourceRegistry.get(resourceType).modelType());
+  }
+
+  private Optional<ResourceQuery<T>> graphQlQuery(Context context, DataExportProperties properties,
+      CompiledFilter filter) {
+    if (context.getFetchMode() != FetchMode.GRAPHQL || graphQlQueryField() == null || properties == null) {
+      return Optional.empty();
+    }
+    var modelType = modelType();
+    var fields = Stream.concat(properties.fields().stream(), filter.clientFields().stream()).distinct().toList();
+    var selection = GraphQlSelection.of(fields, modelType);
+    if (selection.isEmpty()) {
+      LOG.info("Not all fields of resource '{}' can be selected with GraphQL, fetching complete resources instead.",
+          resourceType.getName());
+      return Optional.empty();
+    }
+    return Optional.of(new GraphQlResourceQuery<>(context.getProjectApiRoot(), graphQlQueryField(), selection.get(),
+        modelType, JsonUtils.createObjectMapper()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Class<T> modelType() {
+    return (Class<T>) ResourceRegistry.get(resourceType).modelType();
+  }
+
+  private <R> PageFetcher<R> pageFetcher(Context context, ExportSession session, ResourceQuery<R> query,
+      ResourceKeys<R> keys, PageCodec<R> codec) {
+    var engineQuery = new RetryingResourceQuery<>(
+        new MeteredResourceQuery<>(query, session.getMetricsRecorder(resourceType)), session.getRequestController());
+    return new PageFetcher<>(engineQuery, keys, codec, pageSize, context.getFetchSlices(), context.getPrefetchPages(),
+        context.getExportThreadFactory());
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Builds commercetools where predicates.
+ */
+public final class Predicates {
+
+  private Predicates() {
+  }
+
+  /**
+   * @return both predicates combined with {@code and}. {@code null} predicates are ignored.
+   */
+  public static String and(String first, String second) {
+    if (first == null) {
+      return second;
+    }
+    if (second == null) {
+      return first;
+    }
+    return String.format("%s and %s", first, second);
+  }
+
+  /**
+   * @return the predicate of the resources modified at or after the given time
+   */
+  public static String modifiedSince(ZonedDateTime since) {
+    return String.format("lastModifiedAt >= \"%s\"", DateTimeFormatter.ISO_INSTANT.format(since));
+  }
+}
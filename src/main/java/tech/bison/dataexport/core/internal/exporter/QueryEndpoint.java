@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.models.ResourcePagedQueryResponse;
+import io.vrap.rmf.base.client.TypeApiMethod;
+import java.util.function.Supplier;
+
+/**
+ * The query endpoint of a resource type, e.g. {@code GET /orders}.
+ */
+public interface QueryEndpoint<T> {
+
+  /**
+   * @param where the where predicate or {@code null} to query all resources
+   * @param sort the sort expression or {@code null} for the default order
+   * @param limit the maximum number of results
+   * @return the deserialized query response
+   */
+  ResourcePagedQueryResponse<T> fetch(String where, String sort, long limit);
+
+  /**
+   * Same as {@link #fetch(String, String, long)} but returns the json of the response without deserializing it.
+   */
+  byte[] fetchRaw(String where, String sort, long limit);
+
+  /**
+   * @param request creates the {@code GET} request of the query endpoint, e.g. {@code projectApiRoot.orders()::get}
+   * @return the endpoint which sends the request with the paging parameters of the export
+   */
+  static <T, R extends ResourcePagedQueryResponse<T>, M extends TypeApiMethod<M, R>> QueryEndpoint<T> of(
+      Supplier<M> request) {
+    return new QueryEndpoint<>() {
+      @Override
+      public ResourcePagedQueryResponse<T> fetch(String where, String sort, long limit) {
+        return request(where, sort, limit).executeBlocking().getBody();
+      }
+
+      @Override
+      public byte[] fetchRaw(String where, String sort, long limit) {
+        return request(where, sort, limit).sendBlocking().getBody();
+      }
+
+      private M request(String where, String sort, long limit) {
+        var method = request.get()
+            .withQueryParam("limit", limit)
+            .withQueryParam("withTotal", false);
+        if (sort != null) {
+          method = method.withQueryParam("sort", sort);
+        }
+        return where != null ? method.withQueryParam("where", where) : method;
+      }
+    };
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import io.vrap.rmf.base.client.error.ApiHttpException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+
+/**
+ * Controls the requests to the commercetools api of all exports of a context. The number of concurrent requests is
+ * adjusted with additive increase and multiplicative decrease: every successful request raises the limit by one per
+ * limit requests, up to the configured maximum, and a throttled request halves it. Failed requests are retried with a
+ * jittered exponential backoff, or after the delay of the {@code Retry-After} header if the api sends one.
+ */
+public final class RequestController {
+
+  static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+  /**
+   * Requests which were already in flight when the limit was decreased do not decrease it again.
+   */
+  private static final Duration DECREASE_INTERVAL = Duration.ofSeconds(1);
+  private static final Logger LOG = LoggerFactory.getLogger(RequestController.class);
+  private static final String RETRY_AFTER = "Retry-After";
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVER_ERROR = 500;
+  private static final int SERVICE_UNAVAILABLE = 503;
+  private final int maxConcurrentRequests;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = lock.newCondition();
+  private double limit;
+  private int inFlight;
+  private long lastDecreaseNanos;
+
+  public RequestController(int maxConcurrentRequests, int maxAttempts, Duration initialBackoff) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.limit = maxConcurrentRequests;
+    this.lastDecreaseNanos = System.nanoTime() - DECREASE_INTERVAL.toNanos();
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public Duration getInitialBackoff() {
+    return initialBackoff;
+  }
+
+  /**
+   * @return the current limit of concurrent requests
+   */
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until a request may be sent.
+   */
+  public void acquire() {
+    lock.lock();
+    try {
+      while (inFlight >= (int) limit) {
+        permitReleased.await();
+      }
+      inFlight++;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DataExportException("Interrupted while waiting to send a request.", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Completes a request and adjusts the limit of concurrent requests.
+   *
+   * @param failure the failure of the request or {@code null} if it succeeded
+   */
+  public void release(Throwable failure) {
+    lock.lock();
+    try {
+      inFlight--;
+      if (failure == null) {
+        limit = Math.min(maxConcurrentRequests, limit + 1 / limit);
+      } else if (isThrottled(failure) && System.nanoTime() - lastDecreaseNanos >= DECREASE_INTERVAL.toNanos()) {
+        limit = Math.max(1, limit / 2);
+        lastDecreaseNanos = System.nanoTime();
+        LOG.info("Requests are throttled, reducing the concurrent requests to {}.", (int) limit);
+      }
+      permitReleased.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @param backoff the exponential backoff of the attempt
+   * @return the delay before the next attempt: the {@code Retry-After} of the failure if present, otherwise a random
+   * delay between half and the full backoff, so concurrent fetchers do not retry in lockstep
+   */
+  Duration retryDelay(Throwable failure, Duration backoff) {
+    var retryAfter = retryAfter(failure);
+    if (retryAfter != null) {
+      return retryAfter.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : retryAfter;
+    }
+    long half = backoff.toNanos() / 2;
+    return Duration.ofNanos(half + ThreadLocalRandom.current().nextLong(half + 1));
+  }
+
+  static Duration nextBackoff(Duration backoff) {
+    var doubled = backoff.multipliedBy(2);
+    return doubled.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : doubled;
+  }
+
+  static boolean isRetryable(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ApiHttpException httpException) {
+        int status = httpException.getStatusCode();
+        return status == TOO_MANY_REQUESTS || status >= SERVER_ERROR;
+      }
+      if (cause instanceof IOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static boolean isThrottled(Throwable failure) {
+    var httpException = httpException(failure);
+    return httpException != null && (httpException.getStatusCode() == TOO_MANY_REQUESTS
+        || httpException.getStatusCode() == SERVICE_UNAVAILABLE);
+  }
+
+  /**
+   * @return the delay of the {@code Retry-After} header in seconds or as http date, {@code null} if there is none
+   */
+  static Duration retryAfter(Throwable failure) {
+    var httpException = httpException(failure);
+    var value = httpException != null && httpException.getHeaders() != null
+        ? httpException.getHeaders().getFirst(RETRY_AFTER) : null;
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+    } catch (NumberFormatException e) {
+      try {
+        var retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+        var delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+        return delay.isNegative() ? Duration.ZERO : delay;
+      } catch (DateTimeParseException parseException) {
+        return null;
+      }
+    }
+  }
+
+  private static ApiHttpException httpException(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ApiHttpException httpException) {
+        return httpException;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.models.common.BaseResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import org.apache.commons.csv.CSVPrinter;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+
+/**
+ * Writes the rows of any registered resource type as csv records.
+ */
+public class ResourceCsvDataWriter implements DataWriter {
+
+  private final CSVPrinter csvPrinter;
+  private final FieldExtractionPlan extractionPlan;
+  private long childRowCount;
+
+  public ResourceCsvDataWriter(CSVPrinter csvPrinter, DataExportProperties dataExportProperties,
+      ObjectMapper objectMapper) {
+    this.csvPrinter = csvPrinter;
+    this.extractionPlan = ExtractionPlans.forResource(dataExportProperties, objectMapper);
+  }
+
+  @Override
+  public void writeRow(BaseResource source) {
+    childRowCount += extractionPlan.forEachRow(source, values -> writeRecord(source, values));
+  }
+
+  @Override
+  public long getChildRowCount() {
+    return childRowCount;
+  }
+
+  private void writeRecord(BaseResource source, List<String> values) {
+    try {
+      csvPrinter.printRecord(values);
+    } catch (IOException e) {
+      throw new DataExportException(String.format("Could not write resource '%s'", source.getId()), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      csvPrinter.flush();
+    } catch (IOException e) {
+      throw new DataExportException("Could not flush resource data.", e);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.models.common.BaseResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.function.Supplier;
+import org.apache.commons.csv.CSVPrinter;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.executor.DataExporter;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+
+/**
+ * Describes how a resource type is queried and written.
+ *
+ * @param resourceType the exported resource type
+ * @param modelType the model type of the query results
+ * @param childItems the child items which are written as separate rows or {@code null}
+ * @param exporter creates the exporter querying the resources
+ * @param csvWriter creates the csv writer of the resources
+ */
+public record ResourceDefinition(ExportableResourceType resourceType, Class<? extends BaseResource> modelType,
+                                 ChildItems childItems, Supplier<DataExporter> exporter,
+                                 CsvWriterFactory csvWriter) {
+
+  @FunctionalInterface
+  public interface CsvWriterFactory {
+
+    DataWriter create(CSVPrinter csvPrinter, DataExportProperties dataExportProperties, ObjectMapper objectMapper);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.models.common.BaseResource;
+import java.time.ZonedDateTime;
+
+/**
+ * Reads the fields of a query result which are used for paging.
+ */
+public interface ResourceKeys<T> {
+
+  String id(T resource);
+
+  ZonedDateTime createdAt(T resource);
+
+  /**
+   * @return the keys of deserialized model resources
+   */
+  static <T extends BaseResource> ResourceKeys<T> model() {
+    return new ResourceKeys<>() {
+      @Override
+      public String id(T resource) {
+        return resource.getId();
+      }
+
+      @Override
+      public ZonedDateTime createdAt(T resource) {
+        return resource.getCreatedAt();
+      }
+    };
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+/**
+ * Executes a query for one resource type.
+ */
+@FunctionalInterface
+public interface ResourceQuery<T> {
+
+  /**
+   * @param where the where predicate or {@code null} to query all resources
+   * @param sort the sort expression
+   * @param limit the maximum number of results
+   * @return the results of the query
+   */
+  ResultPage<T> fetch(String where, String sort, long limit);
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import static tech.bison.dataexport.core.api.executor.ExportableResourceType.CART;
+import static tech.bison.dataexport.core.api.executor.ExportableResourceType.CUSTOMER;
+import static tech.bison.dataexport.core.api.executor.ExportableResourceType.INVENTORY;
+import static tech.bison.dataexport.core.api.executor.ExportableResourceType.ORDER;
+import static tech.bison.dataexport.core.api.executor.ExportableResourceType.PAYMENT;
+import static tech.bison.dataexport.core.api.executor.ExportableResourceType.PRODUCT;
+
+import com.commercetools.api.models.cart.Cart;
+import com.commercetools.api.models.customer.Customer;
+import com.commercetools.api.models.inventory.InventoryEntry;
+import com.commercetools.api.models.order.Order;
+import com.commercetools.api.models.payment.Payment;
+import com.commercetools.api.models.product.ProductProjection;
+import com.commercetools.api.models.product.ProductVariant;
+import java.util.EnumMap;
+import java.util.Map;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.internal.exporter.carts.CartDataExporter;
+import tech.bison.dataexport.core.internal.exporter.customers.CustomerDataExporter;
+import tech.bison.dataexport.core.internal.exporter.inventory.InventoryDataExporter;
+import tech.bison.dataexport.core.internal.exporter.orders.OrderDataExporter;
+import tech.bison.dataexport.core.internal.exporter.payments.PaymentDataExporter;
+import tech.bison.dataexport.core.internal.exporter.products.ProductDataExporter;
+
+/**
+ * The definitions of all exportable resource types. A new resource type needs a {@link PagedResourceExporter} for its
+ * query endpoint and a definition here.
+ */
+public final class ResourceRegistry {
+
+  private static final Map<ExportableResourceType, ResourceDefinition> DEFINITIONS = new EnumMap<>(
+      ExportableResourceType.class);
+
+  static {
+    register(new ResourceDefinition(ORDER, Order.class, ChildItems.of(Order.class, "lineItems"),
+        OrderDataExporter::new, ResourceCsvDataWriter::new));
+    register(new ResourceDefinition(CUSTOMER, Customer.class, null, CustomerDataExporter::new,
+        ResourceCsvDataWriter::new));
+    register(new ResourceDefinition(PRODUCT, ProductProjection.class,
+        new ChildItems("variants", ProductVariant.class,
+            product -> ProductDataExporter.allVariants((ProductProjection) product), null)
+            .withNested(ChildItems.of(ProductVariant.class, "prices")),
+        ProductDataExporter::new, ResourceCsvDataWriter::new));
+    register(new ResourceDefinition(CART, Cart.class, ChildItems.of(Cart.class, "lineItems"), CartDataExporter::new,
+        ResourceCsvDataWriter::new));
+    register(new ResourceDefinition(PAYMENT, Payment.class, ChildItems.of(Payment.class, "transactions"),
+        PaymentDataExporter::new, ResourceCsvDataWriter::new));
+    register(new ResourceDefinition(INVENTORY, InventoryEntry.class, null, InventoryDataExporter::new,
+        ResourceCsvDataWriter::new));
+  }
+
+  private ResourceRegistry() {
+  }
+
+  /**
+   * @throws DataExportException if the resource type has no definition
+   */
+  public static ResourceDefinition get(ExportableResourceType resourceType) {
+    var definition = DEFINITIONS.get(resourceType);
+    if (definition == null) {
+      throw new DataExportException(String.format("Resource type '%s' is not supported.", resourceType.getName()));
+    }
+    return definition;
+  }
+
+  private static void register(ResourceDefinition definition) {
+    DEFINITIONS.put(definition.resourceType(), definition);
+  }
+}
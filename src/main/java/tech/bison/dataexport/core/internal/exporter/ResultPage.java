@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.models.ResourcePagedQueryResponse;
+import java.util.List;
+
+/**
+ * The results of one query.
+ *
+ * @param count the number of results, a page with fewer results than requested is the last page
+ */
+public record ResultPage<T>(List<T> results, long count) {
+
+  public static <T> ResultPage<T> of(ResourcePagedQueryResponse<T> response) {
+    return new ResultPage<>(response.getResults(), response.getCount());
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+
+/**
+ * Sends queries through the {@link RequestController} and retries queries which failed with a temporary error, i.e. a
+ * server error, too many requests or an I/O error. The backoff between the attempts doubles with every attempt and is
+ * jittered; a {@code Retry-After} of the api takes precedence. The controller permit is released while waiting.
+ */
+public final class RetryingResourceQuery<T> implements ResourceQuery<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RetryingResourceQuery.class);
+  private final ResourceQuery<T> delegate;
+  private final RequestController requestController;
+
+  public RetryingResourceQuery(ResourceQuery<T> delegate, RequestController requestController) {
+    this.delegate = delegate;
+    this.requestController = requestController;
+  }
+
+  @Override
+  public ResultPage<T> fetch(String where, String sort, long limit) {
+    int maxAttempts = requestController.getMaxAttempts();
+    var backoff = requestController.getInitialBackoff();
+    for (int attempt = 1; ; attempt++) {
+      Throwable failure = null;
+      requestController.acquire();
+      try {
+        return delegate.fetch(where, sort, limit);
+      } catch (RuntimeException e) {
+        failure = e;
+        if (attempt >= maxAttempts || !RequestController.isRetryable(e)) {
+          throw e;
+        }
+      } catch (Error e) {
+        failure = e;
+        throw e;
+      } finally {
+        requestController.release(failure);
+      }
+      var delay = requestController.retryDelay(failure, backoff);
+      LOG.warn("Query failed in attempt {} of {}, retrying in {} ms.", attempt, maxAttempts, delay.toMillis(), failure);
+      sleep(delay);
+      backoff = RequestController.nextBackoff(backoff);
+    }
+  }
+
+  private static void sleep(Duration delay) {
+    try {
+      Thread.sleep(delay);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DataExportException("Interrupted while waiting to retry the query.", e);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A resource or child item which is written as one row. The json tree of the model is only created if a field without
+ * typed accessor is read.
+ */
+public final class RowSource {
+
+  private final Object model;
+  private final ObjectMapper objectMapper;
+  private JsonNode tree;
+
+  public RowSource(Object model, ObjectMapper objectMapper) {
+    this.model = model;
+    this.objectMapper = objectMapper;
+  }
+
+  public Object model() {
+    return model;
+  }
+
+  public JsonNode tree() {
+    if (tree == null) {
+      tree = objectMapper.valueToTree(model);
+    }
+    return tree;
+  }
+}
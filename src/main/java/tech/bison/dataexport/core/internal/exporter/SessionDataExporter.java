@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.DataExporter;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+
+/**
+ * An exporter which shares the {@link ExportSession} of the executor with the exporters of the other resource types.
+ * Called without a session, the exporter runs with a session of its own.
+ */
+public interface SessionDataExporter extends DataExporter {
+
+  void export(Context context, ExportSession session, DataWriter dataWriter);
+
+  @Override
+  default void export(Context context, DataWriter dataWriter) {
+    export(context, new ExportSession(context), dataWriter);
+  }
+}
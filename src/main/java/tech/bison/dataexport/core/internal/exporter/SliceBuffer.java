@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+
+/**
+ * Buffers the pages of one slice between its producer and the consumer. Up to {@code capacity} pages are kept in
+ * memory. While the consumer is busy with an earlier slice, further pages are spooled to a temporary file, so the
+ * producer never waits for the consumer. Once the consumer has reached the slice, a producer with a full buffer blocks
+ * until the consumer catches up.
+ */
+final class SliceBuffer<T> implements AutoCloseable {
+
+  private final PageCodec<T> codec;
+  private final int capacity;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final Deque<List<T>> pages = new ArrayDeque<>();
+  private FileChannel spool;
+  private long writePosition;
+  private long readPosition;
+  private int spooledPages;
+  private boolean active;
+  private boolean finished;
+  private boolean cancelled;
+  private Throwable failure;
+
+  SliceBuffer(PageCodec<T> codec, int capacity, boolean active) {
+    this.codec = codec;
+    this.capacity = capacity;
+    this.active = active;
+  }
+
+  /**
+   * Adds the next page of the slice.
+   *
+   * @throws CancellationException if the consumer has stopped
+   */
+  void put(List<T> page) {
+    lock.lock();
+    try {
+      while (true) {
+        if (cancelled) {
+          throw new CancellationException();
+        }
+        if (spooledPages > 0 || (pages.size() >= capacity && !active)) {
+          spool(page);
+          break;
+        }
+        if (pages.size() < capacity) {
+          pages.add(page);
+          break;
+        }
+        changed.await();
+      }
+      changed.signalAll();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Marks the slice as complete, either successfully or with the given failure.
+   */
+  void finish(Throwable failure) {
+    lock.lock();
+    try {
+      this.finished = true;
+      this.failure = failure;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Marks the slice as the one the consumer currently drains, from now on a producer with a full buffer blocks.
+   */
+  void activate() {
+    lock.lock();
+    try {
+      active = true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops the producer of the slice at its next page.
+   */
+  void cancel() {
+    lock.lock();
+    try {
+      cancelled = true;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the next page of the slice or {@code null} if the slice is complete
+   */
+  List<T> take() {
+    lock.lock();
+    try {
+      while (pages.isEmpty() && spooledPages == 0 && !finished) {
+        changed.await();
+      }
+      if (failure != null) {
+        throw propagate(failure);
+      }
+      List<T> page = !pages.isEmpty() ? pages.poll() : spooledPages > 0 ? unspool() : null;
+      changed.signalAll();
+      return page;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DataExportException("Interrupted while waiting for the next page.", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      if (spool != null) {
+        spool.close();
+        spool = null;
+      }
+    } catch (IOException e) {
+      throw new DataExportException("Could not delete the spool file of a slice.", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void spool(List<T> page) {
+    try {
+      if (spool == null) {
+        spool = FileChannel.open(Files.createTempFile("data-export-slice", ".spool"), StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+      }
+      byte[] bytes = codec.encode(page);
+      var buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes).flip();
+      while (buffer.hasRemaining()) {
+        writePosition += spool.write(buffer, writePosition);
+      }
+      spooledPages++;
+    } catch (IOException e) {
+      throw new DataExportException("Could not spool a page to a temporary file.", e);
+    }
+  }
+
+  private List<T> unspool() {
+    try {
+      var length = ByteBuffer.allocate(Integer.BYTES);
+      read(length);
+      var bytes = ByteBuffer.allocate(length.flip().getInt());
+      read(bytes);
+      spooledPages--;
+      if (spooledPages == 0) {
+        // all spooled pages are consumed, the file can be reused from the start
+        spool.truncate(0);
+        writePosition = 0;
+        readPosition = 0;
+      }
+      return codec.decode(bytes.array());
+    } catch (IOException e) {
+      throw new DataExportException("Could not read a spooled page from a temporary file.", e);
+    }
+  }
+
+  private void read(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = spool.read(buffer, readPosition);
+      if (read < 0) {
+        throw new IOException("Unexpected end of the spool file.");
+      }
+      readPosition += read;
+    }
+  }
+
+  private static RuntimeException propagate(Throwable failure) {
+    if (failure instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (failure instanceof Error error) {
+      throw error;
+    }
+    return new DataExportException("Could not fetch the pages of a slice.", failure);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Function;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+
+/**
+ * Reads a field through the getters of the commercetools model, without converting the model to a json tree.
+ */
+final class TypedFieldExtractor implements FieldExtractor {
+
+  private final int column;
+  private final String path;
+  private final MethodHandle[] getters;
+  private final Function<Object, String> formatter;
+  private final ColumnType columnType;
+  private final Function<Object, Object> converter;
+
+  private TypedFieldExtractor(int column, String path, MethodHandle[] getters, Class<?> valueType,
+      Function<Object, String> formatter) {
+    this.column = column;
+    this.path = path;
+    this.getters = getters;
+    this.formatter = formatter;
+    this.columnType = ValueFormatters.columnType(valueType);
+    this.converter = ValueFormatters.converter(valueType, formatter);
+  }
+
+  /**
+   * @return the typed extractor or {@code null} if the path cannot be resolved to getters returning a supported
+   * value type
+   */
+  static TypedFieldExtractor resolve(int column, Class<?> modelType, String path) {
+    var segments = path.split("\\.");
+    var getters = new MethodHandle[segments.length];
+    Class<?> type = modelType;
+    for (int i = 0; i < segments.length; i++) {
+      var getter = ModelGetters.find(type, segments[i]);
+      if (getter == null) {
+        return null;
+      }
+      getters[i] = ModelGetters.toHandle(getter);
+      if (getters[i] == null) {
+        return null;
+      }
+      type = getter.getReturnType();
+    }
+    var formatter = ValueFormatters.forType(type);
+    if (formatter == null) {
+      return null;
+    }
+    return new TypedFieldExtractor(column, path, getters, type, formatter);
+  }
+
+  @Override
+  public int column() {
+    return column;
+  }
+
+  @Override
+  public ColumnType columnType() {
+    return columnType;
+  }
+
+  @Override
+  public String extract(RowSource source) {
+    var value = read(source);
+    return value != null ? formatter.apply(value) : "";
+  }
+
+  @Override
+  public Object extractValue(RowSource source) {
+    var value = read(source);
+    return value != null ? converter.apply(value) : null;
+  }
+
+  private Object read(RowSource source) {
+    Object value = source.model();
+    try {
+      for (MethodHandle getter : getters) {
+        value = (Object) getter.invokeExact(value);
+        if (value == null) {
+          return null;
+        }
+      }
+    } catch (Throwable e) {
+      throw new DataExportException(String.format("Could not read field '%s'.", path), e);
+    }
+    return value;
+  }
+}
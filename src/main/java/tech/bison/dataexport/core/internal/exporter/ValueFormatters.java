@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.models.common.BaseMoney;
+import com.commercetools.api.models.common.CentPrecisionMoney;
+import com.commercetools.api.models.common.HighPrecisionMoney;
+import io.vrap.rmf.base.client.JsonEnum;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * Formatters and converters for the value types supported by typed accessors. The formatted output is the same as the
+ * text of the corresponding json value.
+ */
+final class ValueFormatters {
+
+  private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(
+      "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+  private ValueFormatters() {
+  }
+
+  /**
+   * @return the formatter for values of the given type or {@code null} if the type is not supported
+   */
+  static Function<Object, String> forType(Class<?> type) {
+    if (type == String.class) {
+      return String.class::cast;
+    }
+    if (type.isPrimitive() || Number.class.isAssignableFrom(type) || type == Boolean.class) {
+      return String::valueOf;
+    }
+    if (ZonedDateTime.class.isAssignableFrom(type)) {
+      return value -> DATE_TIME_FORMATTER.format((ZonedDateTime) value);
+    }
+    if (type == LocalDate.class) {
+      return value -> ((LocalDate) value).toString();
+    }
+    if (JsonEnum.class.isAssignableFrom(type)) {
+      return value -> ((JsonEnum) value).getJsonName();
+    }
+    if (BaseMoney.class.isAssignableFrom(type)) {
+      return ValueFormatters::formatMoney;
+    }
+    return null;
+  }
+
+  static ColumnType columnType(Class<?> type) {
+    if (type == Long.class || type == Integer.class || type == Short.class || type == long.class
+        || type == int.class || type == short.class) {
+      return ColumnType.INT64;
+    }
+    if (type == Double.class || type == Float.class || type == double.class || type == float.class
+        || type == BigDecimal.class || BaseMoney.class.isAssignableFrom(type)) {
+      return ColumnType.DOUBLE;
+    }
+    if (type == Boolean.class || type == boolean.class) {
+      return ColumnType.BOOLEAN;
+    }
+    if (ZonedDateTime.class.isAssignableFrom(type)) {
+      return ColumnType.TIMESTAMP;
+    }
+    if (type == LocalDate.class) {
+      return ColumnType.DATE;
+    }
+    return ColumnType.STRING;
+  }
+
+  /**
+   * @return the converter of non-null values of the given type to the java type of its {@link ColumnType}
+   */
+  static Function<Object, Object> converter(Class<?> type, Function<Object, String> formatter) {
+    return switch (columnType(type)) {
+      case INT64 -> value -> ((Number) value).longValue();
+      case DOUBLE -> BaseMoney.class.isAssignableFrom(type) ? ValueFormatters::convertMoney
+          : value -> ((Number) value).doubleValue();
+      case BOOLEAN -> value -> value;
+      case TIMESTAMP -> value -> ((ZonedDateTime) value).toInstant().toEpochMilli();
+      case DATE -> value -> (int) ((LocalDate) value).toEpochDay();
+      case STRING -> formatter::apply;
+    };
+  }
+
+  private static Object convertMoney(Object value) {
+    if (value instanceof CentPrecisionMoney money) {
+      return money.getCentAmount() / 100d;
+    }
+    if (value instanceof HighPrecisionMoney money) {
+      return preciseAmount(money.getPreciseAmount(), money.getFractionDigits());
+    }
+    return null;
+  }
+
+  private static String formatMoney(Object value) {
+    var amount = convertMoney(value);
+    return amount != null ? String.valueOf(amount) : "";
+  }
+
+  /**
+   * @return the amount in the main currency unit of a high precision amount with the given fraction digits
+   */
+  static double preciseAmount(long preciseAmount, int fractionDigits) {
+    return BigDecimal.valueOf(preciseAmount, fractionDigits).doubleValue();
+  }
+}
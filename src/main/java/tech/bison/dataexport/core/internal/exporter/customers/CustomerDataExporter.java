@@ -15,15 +15,27 @@
  */
 package tech.bison.dataexport.core.internal.exporter.customers;
 
-import tech.bison.dataexport.core.api.executor.Context;
-import tech.bison.dataexport.core.api.executor.DataExporter;
-import tech.bison.dataexport.core.api.executor.DataWriter;
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.customer.Customer;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.internal.exporter.PagedResourceExporter;
+import tech.bison.dataexport.core.internal.exporter.QueryEndpoint;
 
-public class CustomerDataExporter implements DataExporter {
+public class CustomerDataExporter extends PagedResourceExporter<Customer> {
 
+    static final Long QUERY_RESULT_LIMIT = 50L;
+
+    public CustomerDataExporter() {
+        super(ExportableResourceType.CUSTOMER, QUERY_RESULT_LIMIT);
+    }
+
+    @Override
+    protected String graphQlQueryField() {
+        return "customers";
+    }
 
     @Override
-    public void export(Context context, DataWriter dataWriter) {
-        throw new UnsupportedOperationException("Not yet implemented");
+    protected QueryEndpoint<Customer> endpoint(ProjectApiRoot projectApiRoot) {
+        return QueryEndpoint.of(projectApiRoot.customers()::get);
     }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import tech.bison.dataexport.core.api.configuration.ExportFilter;
+import tech.bison.dataexport.core.api.configuration.ExportFilter.Condition;
+import tech.bison.dataexport.core.api.configuration.ExportFilter.Operator;
+import tech.bison.dataexport.core.internal.exporter.Predicates;
+import tech.bison.dataexport.core.internal.exporter.RowSource;
+
+/**
+ * An {@link ExportFilter} split into the commercetools where predicate sent with the queries and the conditions
+ * evaluated on the fetched resources. A condition is pushed into the where predicate if its operator and values can be
+ * expressed there and its field is a plain path without array indices.
+ */
+public final class CompiledFilter {
+
+  private static final CompiledFilter NONE = new CompiledFilter(null, List.of());
+  private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+  private static final Pattern INDEX = Pattern.compile("\\d+");
+  private final String wherePredicate;
+  private final List<Condition> clientConditions;
+
+  private CompiledFilter(String wherePredicate, List<Condition> clientConditions) {
+    this.wherePredicate = wherePredicate;
+    this.clientConditions = clientConditions;
+  }
+
+  /**
+   * @param filter the configured filter or {@code null}
+   */
+  public static CompiledFilter compile(ExportFilter filter) {
+    if (filter == null) {
+      return NONE;
+    }
+    String wherePredicate = null;
+    for (var predicate : filter.getPredicates()) {
+      wherePredicate = Predicates.and(wherePredicate, "(" + predicate + ")");
+    }
+    var clientConditions = new ArrayList<Condition>();
+    for (var condition : filter.getConditions()) {
+      if (isPushable(condition)) {
+        wherePredicate = Predicates.and(wherePredicate, toPredicate(condition));
+      } else {
+        clientConditions.add(condition);
+      }
+    }
+    return new CompiledFilter(wherePredicate, List.copyOf(clientConditions));
+  }
+
+  /**
+   * @return the where predicate of the filter or {@code null} if all resources are fetched
+   */
+  public String wherePredicate() {
+    return wherePredicate;
+  }
+
+  public boolean hasClientConditions() {
+    return !clientConditions.isEmpty();
+  }
+
+  /**
+   * @return the fields of the conditions evaluated on the fetched resources, they must be fetched as well
+   */
+  public List<String> clientFields() {
+    return clientConditions.stream().map(Condition::field).distinct().toList();
+  }
+
+  /**
+   * @return true if the resource matches all conditions which were not part of the where predicate
+   */
+  public boolean matches(RowSource source) {
+    for (var condition : clientConditions) {
+      var values = new ArrayList<JsonNode>();
+      collect(source.tree(), condition.field().split("\\."), 0, values);
+      if (values.stream().noneMatch(value -> matches(value, condition))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isPushable(Condition condition) {
+    if (condition.operator() == Operator.STARTS_WITH || condition.operator() == Operator.CONTAINS) {
+      return false;
+    }
+    for (var segment : condition.field().split("\\.")) {
+      if (!FIELD_NAME.matcher(segment).matches()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String toPredicate(Condition condition) {
+    var segments = condition.field().split("\\.");
+    var predicate = new StringBuilder(segments[segments.length - 1]).append(' ')
+        .append(switch (condition.operator()) {
+          case EQ -> "= " + literal(condition.values().get(0));
+          case NE -> "!= " + literal(condition.values().get(0));
+          case GT -> "> " + literal(condition.values().get(0));
+          case GE -> ">= " + literal(condition.values().get(0));
+          case LT -> "< " + literal(condition.values().get(0));
+          case LE -> "<= " + literal(condition.values().get(0));
+          case IN -> "in (" + literals(condition.values()) + ")";
+          case NOT_IN -> "not in (" + literals(condition.values()) + ")";
+          case STARTS_WITH, CONTAINS -> throw new IllegalStateException(condition.operator() + " is not pushable");
+        });
+    for (int i = segments.length - 2; i >= 0; i--) {
+      predicate.insert(0, segments[i] + "(").append(')');
+    }
+    return predicate.toString();
+  }
+
+  private static String literals(List<Object> values) {
+    return values.stream().map(CompiledFilter::literal).collect(Collectors.joining(", "));
+  }
+
+  private static String literal(Object value) {
+    if (value instanceof Number || value instanceof Boolean) {
+      return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    }
+    var text = isInstant(value) ? DateTimeFormatter.ISO_INSTANT.format((TemporalAccessor) value) : value.toString();
+    return '"' + text.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+
+  private static void collect(JsonNode node, String[] path, int index, List<JsonNode> values) {
+    if (node == null || node.isMissingNode() || node.isNull()) {
+      return;
+    }
+    if (index == path.length) {
+      if (node.isArray()) {
+        node.forEach(values::add);
+      } else {
+        values.add(node);
+      }
+      return;
+    }
+    var segment = path[index];
+    if (node.isArray()) {
+      if (INDEX.matcher(segment).matches()) {
+        collect(node.get(Integer.parseInt(segment)), path, index + 1, values);
+      } else {
+        node.forEach(element -> collect(element, path, index, values));
+      }
+      return;
+    }
+    collect(node.get(segment), path, index + 1, values);
+  }
+
+  private static boolean matches(JsonNode node, Condition condition) {
+    var values = condition.values();
+    return switch (condition.operator()) {
+      case EQ -> compare(node, values.get(0), c -> c == 0);
+      case NE -> !compare(node, values.get(0), c -> c == 0);
+      case GT -> compare(node, values.get(0), c -> c > 0);
+      case GE -> compare(node, values.get(0), c -> c >= 0);
+      case LT -> compare(node, values.get(0), c -> c < 0);
+      case LE -> compare(node, values.get(0), c -> c <= 0);
+      case IN -> values.stream().anyMatch(value -> compare(node, value, c -> c == 0));
+      case NOT_IN -> values.stream().noneMatch(value -> compare(node, value, c -> c == 0));
+      case STARTS_WITH -> node.isValueNode() && node.asText().startsWith(values.get(0).toString());
+      case CONTAINS -> node.isValueNode() && node.asText().contains(values.get(0).toString());
+    };
+  }
+
+  /**
+   * Compares the node with the value as number, boolean, date or text depending on the type of the value.
+   *
+   * @return false if the node is not comparable with the value
+   */
+  private static boolean compare(JsonNode node, Object value, IntPredicate comparison) {
+    if (value instanceof Number number) {
+      return node.isNumber() && comparison.test(node.decimalValue().compareTo(new BigDecimal(number.toString())));
+    }
+    if (value instanceof Boolean bool) {
+      return node.isBoolean() && comparison.test(Boolean.compare(node.booleanValue(), bool));
+    }
+    if (!node.isValueNode()) {
+      return false;
+    }
+    try {
+      if (value instanceof LocalDate date) {
+        return comparison.test(LocalDate.parse(node.asText()).compareTo(date));
+      }
+      if (isInstant(value)) {
+        var instant = Instant.from((TemporalAccessor) value);
+        return comparison.test(DateTimeFormatter.ISO_DATE_TIME.parse(node.asText(), Instant::from).compareTo(instant));
+      }
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+    return comparison.test(node.asText().compareTo(value.toString()));
+  }
+
+  private static boolean isInstant(Object value) {
+    return value instanceof ZonedDateTime || value instanceof OffsetDateTime || value instanceof Instant;
+  }
+}
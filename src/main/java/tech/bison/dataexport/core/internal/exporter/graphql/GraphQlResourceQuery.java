@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.graphql;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.graph_ql.GraphQLRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.internal.exporter.ResourceQuery;
+import tech.bison.dataexport.core.internal.exporter.ResultPage;
+
+/**
+ * Queries a resource type with GraphQL and selects only the configured fields. The query arguments are inlined as
+ * literals, so every page is a self-contained query without variables. The results are deserialized into the model
+ * type, fields which were not selected are {@code null}.
+ */
+public final class GraphQlResourceQuery<T> implements ResourceQuery<T> {
+
+  private final ProjectApiRoot projectApiRoot;
+  private final String queryField;
+  private final String selection;
+  private final Class<T> modelType;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * @param queryField the GraphQL query field of the resource type, e.g. {@code orders}
+   */
+  public GraphQlResourceQuery(ProjectApiRoot projectApiRoot, String queryField, GraphQlSelection selection,
+      Class<T> modelType, ObjectMapper objectMapper) {
+    this.projectApiRoot = projectApiRoot;
+    this.queryField = queryField;
+    this.selection = selection.render();
+    this.modelType = modelType;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public ResultPage<T> fetch(String where, String sort, long limit) {
+    var request = GraphQLRequest.builder().query(query(where, sort, limit)).build();
+    return parse(projectApiRoot.graphql().post(request).sendBlocking().getBody());
+  }
+
+  String query(String where, String sort, long limit) {
+    var arguments = new StringBuilder("limit: ").append(limit).append(", sort: [").append(literal(sort)).append(']');
+    if (where != null) {
+      arguments.append(", where: ").append(literal(where));
+    }
+    return String.format("query { %s(%s) { count results %s } }", queryField, arguments, selection);
+  }
+
+  ResultPage<T> parse(byte[] body) {
+    try {
+      var response = objectMapper.readTree(body);
+      var errors = response.path("errors");
+      if (!errors.isEmpty()) {
+        throw new DataExportException(String.format("GraphQL query of '%s' failed: %s", queryField,
+            errors.get(0).path("message").asText()));
+      }
+      var page = response.path("data").path(queryField);
+      var results = new ArrayList<T>(page.path("results").size());
+      for (JsonNode result : page.path("results")) {
+        results.add(objectMapper.treeToValue(result, modelType));
+      }
+      return new ResultPage<>(results, page.path("count").asLong());
+    } catch (IOException e) {
+      throw new DataExportException(String.format("Could not parse GraphQL response of '%s'.", queryField), e);
+    }
+  }
+
+  /**
+   * @return the value as GraphQL string literal
+   */
+  static String literal(String value) {
+    var literal = new StringBuilder(value.length() + 2).append('"');
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"' -> literal.append("\\\"");
+        case '\\' -> literal.append("\\\\");
+        case '\n' -> literal.append("\\n");
+        case '\r' -> literal.append("\\r");
+        case '\t' -> literal.append("\\t");
+        default -> literal.append(c);
+      }
+    }
+    return literal.append('"').toString();
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.graphql;
+
+import com.commercetools.api.models.common.BaseMoney;
+import com.commercetools.api.models.common.CentPrecisionMoney;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.vrap.rmf.base.client.JsonEnum;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import tech.bison.dataexport.core.internal.exporter.ModelGetters;
+
+/**
+ * The GraphQL selection set of the configured export fields. The field paths are resolved against the commercetools
+ * model types. Only paths to scalar, enum and money values through plain model objects and lists can be selected;
+ * localized strings, references, attributes, custom fields and json pointer paths have a different shape in GraphQL
+ * than in the REST api. Money values which can have a high precision also select the precise amount, so they are
+ * formatted like the money values of the REST api.
+ */
+public final class GraphQlSelection {
+
+  private static final List<String> KEY_FIELDS = List.of("id", "createdAt", "lastModifiedAt");
+  private static final List<String> MONEY_FIELDS = List.of("type", "currencyCode", "centAmount", "fractionDigits");
+  private static final String HIGH_PRECISION_FRAGMENT = "... on HighPrecisionMoney";
+  private static final String PRECISE_AMOUNT = "preciseAmount";
+  private final Map<String, Object> root;
+
+  private GraphQlSelection(Map<String, Object> root) {
+    this.root = root;
+  }
+
+  /**
+   * @return the selection of the fields or empty if one of the fields cannot be selected with GraphQL
+   */
+  public static Optional<GraphQlSelection> of(List<String> fields, Class<?> modelType) {
+    var root = new LinkedHashMap<String, Object>();
+    KEY_FIELDS.forEach(field -> root.put(field, Map.of()));
+    for (String field : fields) {
+      if (!add(root, modelType, field.split("\\."), 0)) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(new GraphQlSelection(root));
+  }
+
+  /**
+   * @return the selection set, e.g. {@code { id createdAt lastModifiedAt lineItems { id } }}
+   */
+  public String render() {
+    var selection = new StringBuilder();
+    render(root, selection);
+    return selection.toString();
+  }
+
+  private static boolean add(Map<String, Object> selection, Class<?> type, String[] path, int index) {
+    Method getter = ModelGetters.find(type, path[index]);
+    if (getter == null) {
+      return false;
+    }
+    Class<?> valueType = getter.getReturnType();
+    if (List.class.isAssignableFrom(valueType)) {
+      valueType = ModelGetters.elementType(getter);
+      if (valueType == null) {
+        return false;
+      }
+    }
+    boolean last = index == path.length - 1;
+    if (isScalar(valueType)) {
+      selection.putIfAbsent(path[index], Map.of());
+      return last;
+    }
+    var children = children(selection, path[index]);
+    if (BaseMoney.class.isAssignableFrom(valueType)) {
+      MONEY_FIELDS.forEach(field -> children.put(field, Map.of()));
+      if (!CentPrecisionMoney.class.isAssignableFrom(valueType)) {
+        children(children, HIGH_PRECISION_FRAGMENT).put(PRECISE_AMOUNT, Map.of());
+      }
+      return last || (index == path.length - 2 && MONEY_FIELDS.contains(path[index + 1]));
+    }
+    if (last || !isPlainModel(valueType)) {
+      return false;
+    }
+    return add(children, valueType, path, index + 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> children(Map<String, Object> selection, String field) {
+    var children = selection.get(field);
+    if (!(children instanceof LinkedHashMap<?, ?>)) {
+      children = new LinkedHashMap<String, Object>();
+      selection.put(field, children);
+    }
+    return (Map<String, Object>) children;
+  }
+
+  private static boolean isScalar(Class<?> type) {
+    return type.isPrimitive() || type == String.class || type == Boolean.class || Number.class.isAssignableFrom(type)
+        || type == ZonedDateTime.class || type == LocalDate.class || type == LocalTime.class
+        || JsonEnum.class.isAssignableFrom(type);
+  }
+
+  /**
+   * Polymorphic types like references have a different shape in GraphQL, the GraphQL fields of other model types are
+   * named like the fields of the REST api.
+   */
+  private static boolean isPlainModel(Class<?> type) {
+    return type.isInterface() && type.getName().startsWith("com.commercetools.api.models.")
+        && !type.isAnnotationPresent(JsonSubTypes.class) && !type.isAnnotationPresent(JsonTypeInfo.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void render(Map<String, Object> selection, StringBuilder target) {
+    target.append('{');
+    selection.forEach((field, children) -> {
+      target.append(' ').append(field);
+      var childSelection = (Map<String, Object>) children;
+      if (!childSelection.isEmpty()) {
+        target.append(' ');
+        render(childSelection, target);
+      }
+    });
+    target.append(" }");
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.inventory;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.inventory.InventoryEntry;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.internal.exporter.PagedResourceExporter;
+import tech.bison.dataexport.core.internal.exporter.QueryEndpoint;
+
+public class InventoryDataExporter extends PagedResourceExporter<InventoryEntry> {
+
+  static final Long QUERY_RESULT_LIMIT = 500L;
+
+  public InventoryDataExporter() {
+    super(ExportableResourceType.INVENTORY, QUERY_RESULT_LIMIT);
+  }
+
+  @Override
+  protected String graphQlQueryField() {
+    return "inventoryEntries";
+  }
+
+  @Override
+  protected QueryEndpoint<InventoryEntry> endpoint(ProjectApiRoot projectApiRoot) {
+    return QueryEndpoint.of(projectApiRoot.inventory()::get);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.ndjson;
+
+import com.commercetools.api.models.common.BaseResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.api.executor.RawDataWriter;
+import tech.bison.dataexport.core.api.executor.RawResource;
+
+/**
+ * Writes every resource as one line of json. Raw resources are written as returned by the commercetools API,
+ * deserialized resources are serialized with the object mapper of the SDK.
+ */
+public class NdjsonDataWriter implements DataWriter, RawDataWriter {
+
+  private final OutputStream outputStream;
+  private final ObjectMapper objectMapper = JsonUtils.createObjectMapper();
+
+  public NdjsonDataWriter(OutputStream outputStream) {
+    this.outputStream = outputStream;
+  }
+
+  @Override
+  public void writeRow(BaseResource object) {
+    try {
+      outputStream.write(objectMapper.writeValueAsBytes(object));
+      outputStream.write('\n');
+    } catch (IOException e) {
+      throw new DataExportException(String.format("Could not write resource '%s'", object.getId()), e);
+    }
+  }
+
+  @Override
+  public void writeRaw(RawResource resource) {
+    try {
+      outputStream.write(resource.json());
+      outputStream.write('\n');
+    } catch (IOException e) {
+      throw new DataExportException(String.format("Could not write resource '%s'", resource.id()), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      outputStream.flush();
+    } catch (IOException e) {
+      throw new DataExportException("Could not flush ndjson output.", e);
+    }
+  }
+}
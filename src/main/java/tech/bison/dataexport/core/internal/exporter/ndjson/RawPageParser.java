@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.ndjson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.RawResource;
+import tech.bison.dataexport.core.internal.exporter.PageCodec;
+import tech.bison.dataexport.core.internal.exporter.ResourceKeys;
+import tech.bison.dataexport.core.internal.exporter.ResultPage;
+
+/**
+ * Splits the body of a query response into the json objects of the results. The results are only tokenized, not
+ * deserialized: the tokens of every result, or of its projected top level fields, are copied to compact json.
+ */
+public final class RawPageParser {
+
+  /**
+   * Keys of raw resources for paging.
+   */
+  public static final ResourceKeys<RawResource> KEYS = new ResourceKeys<>() {
+    @Override
+    public String id(RawResource resource) {
+      return resource.id();
+    }
+
+    @Override
+    public ZonedDateTime createdAt(RawResource resource) {
+      return resource.getCreatedAt();
+    }
+  };
+  /**
+   * Serializes pages of raw resources which are spooled to a temporary file.
+   */
+  public static final PageCodec<RawResource> CODEC = new PageCodec<>() {
+    @Override
+    public byte[] encode(List<RawResource> page) throws IOException {
+      var bytes = new ByteArrayOutputStream();
+      try (var out = new DataOutputStream(bytes)) {
+        out.writeInt(page.size());
+        for (RawResource resource : page) {
+          writeNullable(out, resource.id());
+          writeNullable(out, resource.createdAt());
+          writeNullable(out, resource.lastModifiedAt());
+          out.writeInt(resource.json().length);
+          out.write(resource.json());
+        }
+      }
+      return bytes.toByteArray();
+    }
+
+    @Override
+    public List<RawResource> decode(byte[] bytes) throws IOException {
+      try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+        int size = in.readInt();
+        var page = new ArrayList<RawResource>(size);
+        for (int i = 0; i < size; i++) {
+          String id = readNullable(in);
+          String createdAt = readNullable(in);
+          String lastModifiedAt = readNullable(in);
+          byte[] json = new byte[in.readInt()];
+          in.readFully(json);
+          page.add(new RawResource(id, createdAt, lastModifiedAt, json));
+        }
+        return page;
+      }
+    }
+  };
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private final Set<String> projection;
+
+  /**
+   * @param projection the top level fields to keep, empty to keep all fields
+   */
+  public RawPageParser(Set<String> projection) {
+    this.projection = projection;
+  }
+
+  /**
+   * @param fields the configured export fields, only the top level field of each path is projected
+   */
+  public static RawPageParser forFields(List<String> fields) {
+    return new RawPageParser(fields.stream().map(field -> field.split("\\.", 2)[0]).collect(Collectors.toSet()));
+  }
+
+  public ResultPage<RawResource> parse(byte[] body) {
+    var buffer = new ByteArrayOutputStream();
+    try (JsonParser parser = JSON_FACTORY.createParser(body);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+      generator.setRootValueSeparator(null);
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DataExportException("The query response is not a json object.");
+      }
+      long count = 0;
+      List<RawResource> results = List.of();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var name = parser.currentName();
+        parser.nextToken();
+        switch (name) {
+          case "count" -> count = parser.getLongValue();
+          case "results" -> results = parseResults(parser, generator, buffer);
+          default -> parser.skipChildren();
+        }
+      }
+      return new ResultPage<>(results, count);
+    } catch (IOException e) {
+      throw new DataExportException("Could not parse query response.", e);
+    }
+  }
+
+  private List<RawResource> parseResults(JsonParser parser, JsonGenerator generator, ByteArrayOutputStream buffer)
+      throws IOException {
+    var results = new ArrayList<RawResource>();
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      results.add(parseResource(parser, generator, buffer));
+    }
+    return results;
+  }
+
+  /**
+   * Copies the tokens of the resource, or of its projected fields, to the generator. The generator writes compact
+   * json, so every resource fits on one line even if the response was pretty-printed.
+   */
+  private RawResource parseResource(JsonParser parser, JsonGenerator generator, ByteArrayOutputStream buffer)
+      throws IOException {
+    String id = null;
+    String createdAt = null;
+    String lastModifiedAt = null;
+    generator.writeStartObject();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var name = parser.currentName();
+      parser.nextToken();
+      switch (name) {
+        case "id" -> id = parser.getValueAsString();
+        case "createdAt" -> createdAt = parser.getValueAsString();
+        case "lastModifiedAt" -> lastModifiedAt = parser.getValueAsString();
+        default -> {
+        }
+      }
+      if (projection.isEmpty() || projection.contains(name)) {
+        generator.writeFieldName(name);
+        generator.copyCurrentStructure(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    generator.writeEndObject();
+    generator.flush();
+    byte[] json = buffer.toByteArray();
+    buffer.reset();
+    return new RawResource(id, createdAt, lastModifiedAt, json);
+  }
+
+  private static void writeNullable(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readNullable(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+}
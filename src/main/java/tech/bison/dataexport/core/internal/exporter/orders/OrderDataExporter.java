@@ -16,33 +16,26 @@
 package tech.bison.dataexport.core.internal.exporter.orders;
 
 import com.commercetools.api.client.ProjectApiRoot;
-import com.commercetools.api.models.order.OrderPagedQueryResponse;
-import tech.bison.dataexport.core.api.executor.Context;
-import tech.bison.dataexport.core.api.executor.DataExporter;
-import tech.bison.dataexport.core.api.executor.DataWriter;
+import com.commercetools.api.models.order.Order;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.internal.exporter.PagedResourceExporter;
+import tech.bison.dataexport.core.internal.exporter.QueryEndpoint;
 
-public class OrderDataExporter implements DataExporter {
+public class OrderDataExporter extends PagedResourceExporter<Order> {
 
   static final Long QUERY_RESULT_LIMIT = 50L;
 
-  @Override
-  public void export(Context context, DataWriter dataWriter) {
-    var ordersResponse = context.getProjectApiRoot().orders().get().withLimit(QUERY_RESULT_LIMIT)
-        .withSort("createdAt desc").executeBlocking().getBody();
-    ordersResponse.getResults().forEach(dataWriter::writeRow);
-    for (int i = 1; i < ordersResponse.getTotalPages(); i++) {
-      ordersResponse = loadOrdersPage(context.getProjectApiRoot(), i * QUERY_RESULT_LIMIT);
-      ordersResponse.getResults().forEach(dataWriter::writeRow);
-    }
+  public OrderDataExporter() {
+    super(ExportableResourceType.ORDER, QUERY_RESULT_LIMIT);
   }
 
+  @Override
+  protected String graphQlQueryField() {
+    return "orders";
+  }
 
-  private OrderPagedQueryResponse loadOrdersPage(ProjectApiRoot projectApiRoot, Long offset) {
-    return projectApiRoot.orders().get()
-        .withLimit(QUERY_RESULT_LIMIT)
-        .withOffset(offset)
-        .withSort("createdAt desc")
-        .executeBlocking()
-        .getBody();
+  @Override
+  protected QueryEndpoint<Order> endpoint(ProjectApiRoot projectApiRoot) {
+    return QueryEndpoint.of(projectApiRoot.orders()::get);
   }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.parquet;
+
+import com.commercetools.api.models.common.BaseResource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.LogicalTypeAnnotation.TimeUnit;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.internal.exporter.ColumnType;
+import tech.bison.dataexport.core.internal.exporter.FieldExtractionPlan;
+
+/**
+ * Writes the rows of a resource type as parquet file. The schema has one optional column per configured field, typed
+ * according to the model type of the field. Child item rows are written like in the csv export, with empty resource
+ * columns.
+ */
+public class ParquetDataWriter implements DataWriter {
+
+  private static final long ROW_GROUP_SIZE = 64L * 1024 * 1024;
+  private static final int PAGE_SIZE = 1024 * 1024;
+  private final FieldExtractionPlan extractionPlan;
+  private final List<ColumnType> columnTypes;
+  private final SimpleGroupFactory groupFactory;
+  private final ParquetWriter<Group> parquetWriter;
+  private long childRowCount;
+
+  public ParquetDataWriter(OutputStream outputStream, DataExportProperties dataExportProperties,
+      FieldExtractionPlan extractionPlan) {
+    this.extractionPlan = extractionPlan;
+    this.columnTypes = extractionPlan.columnTypes();
+    var schema = createSchema(dataExportProperties);
+    this.groupFactory = new SimpleGroupFactory(schema);
+    try {
+      this.parquetWriter = ExampleParquetWriter.builder(new StreamOutputFile(outputStream))
+          .withType(schema)
+          .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+          .withRowGroupSize(ROW_GROUP_SIZE)
+          .withPageSize(PAGE_SIZE)
+          .withDictionaryEncoding(true)
+          .withCompressionCodec(CompressionCodecName.SNAPPY)
+          .build();
+    } catch (IOException e) {
+      throw new DataExportException("Error creating parquet writer.", e);
+    }
+  }
+
+  @Override
+  public void writeRow(BaseResource source) {
+    childRowCount += extractionPlan.forEachValueRow(source, values -> write(source, values));
+  }
+
+  @Override
+  public long getChildRowCount() {
+    return childRowCount;
+  }
+
+  @Override
+  public void close() {
+    try {
+      parquetWriter.close();
+    } catch (IOException e) {
+      throw new DataExportException("Could not finish parquet file.", e);
+    }
+  }
+
+  private void write(BaseResource source, Object[] values) {
+    Group group = groupFactory.newGroup();
+    for (int i = 0; i < values.length; i++) {
+      var value = values[i];
+      if (value == null) {
+        continue;
+      }
+      switch (columnTypes.get(i)) {
+        case STRING -> group.add(i, (String) value);
+        case INT64, TIMESTAMP -> group.add(i, (long) (Long) value);
+        case DOUBLE -> group.add(i, (double) (Double) value);
+        case BOOLEAN -> group.add(i, (boolean) (Boolean) value);
+        case DATE -> group.add(i, (int) (Integer) value);
+      }
+    }
+    try {
+      parquetWriter.write(group);
+    } catch (IOException e) {
+      throw new DataExportException(String.format("Could not write resource '%s'", source.getId()), e);
+    }
+  }
+
+  private MessageType createSchema(DataExportProperties dataExportProperties) {
+    List<Type> fields = new ArrayList<>();
+    for (int i = 0; i < columnTypes.size(); i++) {
+      var name = dataExportProperties.fields().get(i).replace(".", "_");
+      fields.add(switch (columnTypes.get(i)) {
+        case STRING -> Types.optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named(name);
+        case INT64 -> Types.optional(PrimitiveTypeName.INT64).named(name);
+        case DOUBLE -> Types.optional(PrimitiveTypeName.DOUBLE).named(name);
+        case BOOLEAN -> Types.optional(PrimitiveTypeName.BOOLEAN).named(name);
+        case TIMESTAMP -> Types.optional(PrimitiveTypeName.INT64)
+            .as(LogicalTypeAnnotation.timestampType(true, TimeUnit.MILLIS)).named(name);
+        case DATE -> Types.optional(PrimitiveTypeName.INT32).as(LogicalTypeAnnotation.dateType()).named(name);
+      });
+    }
+    return new MessageType(dataExportProperties.resourceType().getName(), fields);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.products;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.product.ProductProjection;
+import com.commercetools.api.models.product.ProductVariant;
+import java.util.ArrayList;
+import java.util.List;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.internal.exporter.PagedResourceExporter;
+import tech.bison.dataexport.core.internal.exporter.QueryEndpoint;
+
+/**
+ * Exports the current product projections. The variants of a product, including the master variant, are its child
+ * items and the prices of a variant are nested in the variant rows.
+ */
+public class ProductDataExporter extends PagedResourceExporter<ProductProjection> {
+
+  static final Long QUERY_RESULT_LIMIT = 50L;
+
+  public ProductDataExporter() {
+    super(ExportableResourceType.PRODUCT, QUERY_RESULT_LIMIT);
+  }
+
+  @Override
+  protected QueryEndpoint<ProductProjection> endpoint(ProjectApiRoot projectApiRoot) {
+    return QueryEndpoint.of(() -> projectApiRoot.productProjections().get().withStaged(false));
+  }
+
+  /**
+   * @return the master variant followed by the other variants of the product
+   */
+  public static List<ProductVariant> allVariants(ProductProjection product) {
+    var variants = new ArrayList<ProductVariant>();
+    if (product.getMasterVariant() != null) {
+      variants.add(product.getMasterVariant());
+    }
+    if (product.getVariants() != null) {
+      variants.addAll(product.getVariants());
+    }
+    return variants;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.models.common.BaseResource;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+/**
+ * Looks up the {@link ReferenceType#cached() cached} reference types in the {@link ReferenceCache} and loads only the
+ * missing resources. Resources restored from a previous export are validated once per reference type with a query of
+ * the resources modified since; if more than {@value #MAX_MODIFIED} were modified, or the delegate cannot query
+ * modified resources, the reference type is reloaded.
+ */
+public final class CachingReferenceLoader implements ReferenceLoader {
+
+  static final int MAX_MODIFIED = 500;
+  private final ReferenceLoader delegate;
+  private final ReferenceCache cache;
+  private final ExportMetricsRecorder metrics;
+
+  public CachingReferenceLoader(ReferenceLoader delegate, ReferenceCache cache, ExportMetricsRecorder metrics) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public <T extends BaseResource> Map<String, T> load(ReferenceType<?, T> type, Set<String> ids) {
+    if (!type.cached()) {
+      return delegate.load(type, ids);
+    }
+    cache.validate(type, since -> delegate.loadModifiedSince(type, since, MAX_MODIFIED));
+    var resources = new HashMap<String, T>();
+    var missing = new LinkedHashSet<String>();
+    for (var id : ids) {
+      var resource = cache.get(type, id);
+      if (resource != null) {
+        resources.put(id, resource);
+      } else {
+        missing.add(id);
+      }
+    }
+    metrics.recordReferenceCacheLookups(ids.size() - missing.size(), missing.size());
+    if (!missing.isEmpty()) {
+      var loaded = delegate.load(type, missing);
+      loaded.values().forEach(resource -> cache.put(type, resource));
+      resources.putAll(loaded);
+    }
+    return resources;
+  }
+
+  @Override
+  public <T extends BaseResource> Optional<List<T>> loadModifiedSince(ReferenceType<?, T> type, Instant since,
+      int limit) {
+    return delegate.loadModifiedSince(type, since, limit);
+  }
+}
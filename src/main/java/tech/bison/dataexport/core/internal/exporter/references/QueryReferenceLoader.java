@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.common.BaseResource;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import tech.bison.dataexport.core.internal.exporter.Predicates;
+import tech.bison.dataexport.core.internal.exporter.RequestController;
+import tech.bison.dataexport.core.internal.exporter.ResourceQuery;
+import tech.bison.dataexport.core.internal.exporter.ResultPage;
+import tech.bison.dataexport.core.internal.exporter.RetryingResourceQuery;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+/**
+ * Loads referenced resources with {@code id in (...)} queries. The ids are queried in batches, which keeps the query
+ * string short enough for the api.
+ */
+public final class QueryReferenceLoader implements ReferenceLoader {
+
+  static final int MAX_IDS_PER_QUERY = 100;
+  private final ProjectApiRoot projectApiRoot;
+  private final RequestController requestController;
+  private final ExportMetricsRecorder metrics;
+
+  public QueryReferenceLoader(ProjectApiRoot projectApiRoot, RequestController requestController,
+      ExportMetricsRecorder metrics) {
+    this.projectApiRoot = projectApiRoot;
+    this.requestController = requestController;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public <T extends BaseResource> Map<String, T> load(ReferenceType<?, T> type, Set<String> ids) {
+    var query = query(type);
+    var resources = new HashMap<String, T>();
+    var batch = new ArrayList<String>(MAX_IDS_PER_QUERY);
+    for (var id : ids) {
+      batch.add(id);
+      if (batch.size() == MAX_IDS_PER_QUERY) {
+        fetch(query, batch, resources);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      fetch(query, batch, resources);
+    }
+    return resources;
+  }
+
+  private <T extends BaseResource> ResourceQuery<T> query(ReferenceType<?, T> type) {
+    var endpoint = type.endpoint().apply(projectApiRoot);
+    return new RetryingResourceQuery<>((where, sort, limit) -> {
+      long start = System.nanoTime();
+      try {
+        return ResultPage.of(endpoint.fetch(where, sort, limit));
+      } finally {
+        metrics.recordReferenceRequest(System.nanoTime() - start);
+      }
+    }, requestController);
+  }
+
+  @Override
+  public <T extends BaseResource> Optional<List<T>> loadModifiedSince(ReferenceType<?, T> type, Instant since,
+      int limit) {
+    return Optional.of(
+        query(type).fetch(Predicates.modifiedSince(since.atZone(ZoneOffset.UTC)), null, limit).results());
+  }
+
+  private static <T extends BaseResource> void fetch(ResourceQuery<T> query, List<String> ids,
+      Map<String, T> resources) {
+    query.fetch(idIn(ids), null, ids.size()).results().forEach(resource -> resources.put(resource.getId(), resource));
+  }
+
+  static String idIn(List<String> ids) {
+    return ids.stream().map(id -> '"' + id.replace("\\", "\\\\").replace("\"", "\\\"") + '"')
+        .collect(Collectors.joining(", ", "id in (", ")"));
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.models.common.BaseResource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.internal.exporter.references.ReferenceCacheFile.StoredType;
+
+/**
+ * Least recently used cache of referenced resources, shared by the exports of all resource types. The size of a
+ * resource is estimated by the length of its json, the least recently used resources are evicted once the total size
+ * exceeds the maximum size. All methods are thread safe.
+ * <p>
+ * With a cache file, the cache is restored from the previous export and saved again after the export. Restored
+ * resources must be {@link #validate(ReferenceType, Function) validated} before they are used, which replaces the
+ * resources modified since the previous export by their newer version. Deleted resources are not detected: a deleted
+ * resource stays in the cache, and references to it resolve to its last version, until it is evicted.
+ */
+public final class ReferenceCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ReferenceCache.class);
+  private static final int ENTRY_OVERHEAD = 64;
+  /**
+   * Tolerated difference between the local clock and the lastModifiedAt of the api.
+   */
+  private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+  private final long maxBytes;
+  private final ObjectMapper objectMapper;
+  private final Path file;
+  private final Instant created;
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<Class<?>, Instant> unvalidated = new HashMap<>();
+  private final Map<Class<?>, Instant> freshSince = new HashMap<>();
+  private final Map<Class<?>, FutureTask<Void>> validations = new HashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private long bytes;
+
+  /**
+   * @param maxBytes the maximum total size of the cached resources, 0 disables the cache
+   */
+  public ReferenceCache(long maxBytes, ObjectMapper objectMapper) {
+    this(maxBytes, objectMapper, null, Clock.systemUTC());
+  }
+
+  /**
+   * @param maxBytes the maximum total size of the cached resources, 0 disables the cache
+   * @param file the file the cache is restored from and saved to, or {@code null} to keep the cache in memory
+   * @param clock the clock of the export, all resources loaded by the export are at least as fresh as its instant
+   */
+  public ReferenceCache(long maxBytes, ObjectMapper objectMapper, Path file, Clock clock) {
+    this.maxBytes = maxBytes;
+    this.objectMapper = objectMapper;
+    this.file = file;
+    this.created = clock.instant();
+    if (file != null && maxBytes > 0) {
+      try {
+        restore(ReferenceCacheFile.read(file, objectMapper));
+      } catch (DataExportException e) {
+        LOG.warn("Could not restore the reference cache, starting with an empty cache.", e);
+      }
+    }
+  }
+
+  /**
+   * @return the cached resource or {@code null} if it is not cached
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends BaseResource> T get(ReferenceType<?, T> type, String id) {
+    var key = new Key(type.referenceClass(), id);
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(key);
+    }
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    if (entry.resource() != null) {
+      return (T) entry.resource();
+    }
+    var resource = deserialize(type, entry.json());
+    synchronized (this) {
+      entries.replace(key, entry, new Entry(resource, null, entry.version(), entry.size()));
+    }
+    return resource;
+  }
+
+  /**
+   * Caches the resource unless it is larger than the maximum size of the cache or not newer than the cached version of
+   * the resource.
+   */
+  public <T extends BaseResource> void put(ReferenceType<?, T> type, T resource) {
+    var json = objectMapper.<JsonNode>valueToTree(resource);
+    put(new Key(type.referenceClass(), resource.getId()), new Entry(resource, null, version(json), estimateSize(json)));
+  }
+
+  /**
+   * Validates the restored resources of the reference type once. Resources modified since the previous export replace
+   * older cached versions; if the loader returns as many resources as requested, more may have been modified and all
+   * resources of the reference type are removed instead. The query runs without holding the cache lock, so only the
+   * callers which need the same reference type wait for it.
+   *
+   * @param modifiedSince loads the resources modified after the given instant, or returns empty if the modified
+   * resources cannot be queried
+   */
+  public <T extends BaseResource> void validate(ReferenceType<?, T> type,
+      Function<Instant, Optional<List<T>>> modifiedSince) {
+    FutureTask<Void> validation;
+    boolean owner = false;
+    synchronized (this) {
+      var since = unvalidated.remove(type.referenceClass());
+      if (since != null) {
+        validation = new FutureTask<>(() -> {
+          replaceModified(type, modifiedSince.apply(since.minus(CLOCK_SKEW)));
+          return null;
+        });
+        validations.put(type.referenceClass(), validation);
+        owner = true;
+      } else {
+        validation = validations.get(type.referenceClass());
+      }
+    }
+    if (validation == null) {
+      return;
+    }
+    if (owner) {
+      validation.run();
+    }
+    try {
+      validation.get();
+    } catch (ExecutionException e) {
+      synchronized (this) {
+        removeAll(type.referenceClass());
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new DataExportException("Could not validate the cached references.", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DataExportException("Interrupted while validating the cached references.", e);
+    } finally {
+      if (owner) {
+        synchronized (this) {
+          validations.remove(type.referenceClass());
+        }
+      }
+    }
+  }
+
+  private synchronized <T extends BaseResource> void replaceModified(ReferenceType<?, T> type,
+      Optional<List<T>> modified) {
+    freshSince.put(type.referenceClass(), created);
+    if (modified.isEmpty() || modified.get().size() >= CachingReferenceLoader.MAX_MODIFIED) {
+      removeAll(type.referenceClass());
+      return;
+    }
+    for (var resource : modified.get()) {
+      var cached = entries.get(new Key(type.referenceClass(), resource.getId()));
+      if (cached != null && cached.version() < resource.getVersion()) {
+        put(type, resource);
+      }
+    }
+  }
+
+  /**
+   * Saves the cached resources to the cache file, if there is one. The least recently used resources are saved first,
+   * so the cache is restored in the same order.
+   */
+  public void save() {
+    if (file == null) {
+      return;
+    }
+    var types = new LinkedHashMap<Class<?>, StoredType>();
+    synchronized (this) {
+      entries.forEach((key, entry) -> types.computeIfAbsent(key.referenceClass(), referenceClass ->
+              new StoredType(ReferenceTypes.name(ReferenceTypes.find(referenceClass)),
+                  unvalidated.getOrDefault(referenceClass, freshSince.getOrDefault(referenceClass, created)),
+                  new ArrayList<>()))
+          .resources().add(entry.json() != null ? entry.json() : objectMapper.valueToTree(entry.resource())));
+    }
+    ReferenceCacheFile.write(file, List.copyOf(types.values()), objectMapper);
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return the estimated total size of the cached resources in bytes
+   */
+  public synchronized long getBytes() {
+    return bytes;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private void restore(List<StoredType> types) {
+    for (var storedType : types) {
+      var type = ReferenceTypes.find(storedType.name());
+      if (type == null || !type.cached()) {
+        continue;
+      }
+      unvalidated.put(type.referenceClass(), storedType.freshSince());
+      for (var json : storedType.resources()) {
+        put(new Key(type.referenceClass(), json.path("id").asText()),
+            new Entry(null, json, version(json), estimateSize(json)));
+      }
+    }
+  }
+
+  private synchronized void put(Key key, Entry entry) {
+    var cached = entries.get(key);
+    if (entry.size() > maxBytes || (cached != null && cached.version() >= entry.version())) {
+      return;
+    }
+    var previous = entries.put(key, entry);
+    bytes += entry.size() - (previous != null ? previous.size() : 0);
+    var eldest = entries.values().iterator();
+    while (bytes > maxBytes) {
+      bytes -= eldest.next().size();
+      eldest.remove();
+      evictions.increment();
+    }
+  }
+
+  private void removeAll(Class<?> referenceClass) {
+    var iterator = entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      if (entry.getKey().referenceClass() == referenceClass) {
+        bytes -= entry.getValue().size();
+        iterator.remove();
+      }
+    }
+  }
+
+  private <T extends BaseResource> T deserialize(ReferenceType<?, T> type, JsonNode json) {
+    try {
+      return objectMapper.treeToValue(json, type.resourceClass());
+    } catch (JsonProcessingException e) {
+      throw new DataExportException(String.format("Could not read cached resource '%s'.", json.path("id")), e);
+    }
+  }
+
+  private static long version(JsonNode json) {
+    return json.path("version").asLong();
+  }
+
+  private static long estimateSize(JsonNode json) {
+    return json.toString().length() + ENTRY_OVERHEAD;
+  }
+
+  private record Key(Class<?> referenceClass, String id) {
+
+  }
+
+  /**
+   * A cached resource, restored resources are kept as json until they are used.
+   */
+  private record Entry(BaseResource resource, JsonNode json, long version, long size) {
+
+  }
+}
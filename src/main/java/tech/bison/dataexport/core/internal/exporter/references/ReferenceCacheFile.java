@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+
+/**
+ * Reads and writes the gzip compressed json file of a persistent {@link ReferenceCache}. The file is replaced
+ * atomically. A file of an unknown format version is ignored, so the cache starts empty.
+ */
+final class ReferenceCacheFile {
+
+  private static final int FORMAT_VERSION = 1;
+  private static final String FORMAT = "format";
+  private static final String TYPES = "types";
+  private static final String NAME = "name";
+  private static final String FRESH_SINCE = "freshSince";
+  private static final String RESOURCES = "resources";
+
+  private ReferenceCacheFile() {
+  }
+
+  static List<StoredType> read(Path file, ObjectMapper objectMapper) {
+    if (!Files.exists(file)) {
+      return List.of();
+    }
+    JsonNode root;
+    try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+      root = objectMapper.readTree(inputStream);
+    } catch (IOException e) {
+      throw new DataExportException(String.format("Could not read reference cache file '%s'.", file), e);
+    }
+    if (root.path(FORMAT).asInt() != FORMAT_VERSION) {
+      return List.of();
+    }
+    var types = new ArrayList<StoredType>();
+    try {
+      for (var type : root.path(TYPES)) {
+        var resources = new ArrayList<JsonNode>();
+        type.path(RESOURCES).forEach(resources::add);
+        types.add(new StoredType(type.path(NAME).asText(), Instant.parse(type.path(FRESH_SINCE).asText()),
+            resources));
+      }
+    } catch (DateTimeParseException e) {
+      throw new DataExportException(String.format("Could not read reference cache file '%s'.", file), e);
+    }
+    return types;
+  }
+
+  static void write(Path file, List<StoredType> types, ObjectMapper objectMapper) {
+    var root = objectMapper.createObjectNode().put(FORMAT, FORMAT_VERSION);
+    var typesNode = root.putArray(TYPES);
+    for (var type : types) {
+      var typeNode = typesNode.addObject().put(NAME, type.name()).put(FRESH_SINCE, type.freshSince().toString());
+      type.resources().forEach(typeNode.putArray(RESOURCES)::add);
+    }
+    Path tempFile = null;
+    try {
+      var absoluteFile = file.toAbsolutePath();
+      Files.createDirectories(absoluteFile.getParent());
+      tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+      try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+        objectMapper.writeValue(outputStream, root);
+      }
+      Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException | RuntimeException e) {
+      deleteQuietly(tempFile);
+      throw new DataExportException(String.format("Could not write reference cache file '%s'.", file), e);
+    }
+  }
+
+  private static void deleteQuietly(Path tempFile) {
+    if (tempFile == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(tempFile);
+    } catch (IOException e) {
+      // a stale temporary file does not affect the next export
+    }
+  }
+
+  /**
+   * The cached resources of one reference type.
+   *
+   * @param name the {@link ReferenceTypes#name(ReferenceType) name} of the reference type
+   * @param freshSince the resources are at least as fresh as this instant
+   */
+  record StoredType(String name, Instant freshSince, List<JsonNode> resources) {
+
+  }
+}
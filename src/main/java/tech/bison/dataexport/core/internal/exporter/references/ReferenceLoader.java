@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.models.common.BaseResource;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Loads referenced resources by their ids.
+ */
+@FunctionalInterface
+public interface ReferenceLoader {
+
+  /**
+   * @return the found resources by id, ids of resources which do not exist anymore are missing
+   */
+  <T extends BaseResource> Map<String, T> load(ReferenceType<?, T> type, Set<String> ids);
+
+  /**
+   * @return up to {@code limit} resources of the reference type modified after the given instant, or empty if the
+   * loader cannot query modified resources. The default implementation returns empty, so cached resources restored
+   * from a previous export are not used.
+   */
+  default <T extends BaseResource> Optional<List<T>> loadModifiedSince(ReferenceType<?, T> type, Instant since,
+      int limit) {
+    return Optional.empty();
+  }
+}
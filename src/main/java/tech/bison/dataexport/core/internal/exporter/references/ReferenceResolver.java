@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.models.common.BaseResource;
+import com.commercetools.api.models.common.Reference;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.internal.exporter.ModelGetters;
+
+/**
+ * Resolves the references of export fields like {@code customerGroup.obj.key} or
+ * {@code lineItems.supplyChannel.obj.name.en}. Instead of expanding the references of every resource, the distinct
+ * ids of a page are loaded with one query per reference type and set as {@code obj} of the references, so the fields
+ * are extracted as if the references were expanded.
+ */
+public final class ReferenceResolver {
+
+  private static final String OBJ = "obj";
+  private final List<ReferencePath> paths;
+
+  private ReferenceResolver(List<ReferencePath> paths) {
+    this.paths = paths;
+  }
+
+  /**
+   * Compiles the references of the given fields. Fields which do not read the {@code obj} of a resolvable reference of
+   * the model type are ignored.
+   */
+  public static ReferenceResolver compile(List<String> fields, Class<?> modelType) {
+    var paths = new LinkedHashMap<String, ReferencePath>();
+    for (var field : fields) {
+      var segments = Arrays.asList(field.split("\\."));
+      int obj = segments.indexOf(OBJ);
+      if (obj > 0) {
+        var referencePath = segments.subList(0, obj);
+        paths.computeIfAbsent(String.join(".", referencePath), path -> ReferencePath.compile(modelType, referencePath));
+      }
+    }
+    return new ReferenceResolver(paths.values().stream().filter(path -> path != null).toList());
+  }
+
+  public boolean isEmpty() {
+    return paths.isEmpty();
+  }
+
+  /**
+   * Loads the referenced resources of the given resources and sets them as {@code obj} of their references.
+   * References which are already expanded are not loaded again.
+   */
+  public void resolve(List<?> resources, ReferenceLoader loader) {
+    var references = new LinkedHashMap<ReferenceType<?, ?>, List<Reference>>();
+    for (var path : paths) {
+      var pathReferences = references.computeIfAbsent(path.type(), type -> new ArrayList<>());
+      resources.forEach(resource -> path.collect(resource, 0, pathReferences));
+    }
+    references.forEach((type, typeReferences) -> resolve(type, typeReferences, loader));
+  }
+
+  private static <R extends Reference, T extends BaseResource> void resolve(ReferenceType<R, T> type,
+      List<Reference> references, ReferenceLoader loader) {
+    var unresolved = references.stream().map(type.referenceClass()::cast)
+        .filter(reference -> reference.getId() != null && type.obj().apply(reference) == null)
+        .toList();
+    if (unresolved.isEmpty()) {
+      return;
+    }
+    var ids = unresolved.stream().map(Reference::getId).collect(Collectors.toCollection(LinkedHashSet::new));
+    var resolved = loader.load(type, ids);
+    for (var reference : unresolved) {
+      var obj = resolved.get(reference.getId());
+      if (obj != null) {
+        type.setObj().accept(reference, obj);
+      }
+    }
+  }
+
+  private record ReferencePath(MethodHandle[] getters, ReferenceType<?, ?> type) {
+
+    /**
+     * @return the path or {@code null} if the segments are no getters of the model type or do not end in a
+     * resolvable reference
+     */
+    static ReferencePath compile(Class<?> modelType, List<String> segments) {
+      var getters = new MethodHandle[segments.size()];
+      Class<?> type = modelType;
+      for (int i = 0; i < segments.size(); i++) {
+        var getter = ModelGetters.find(type, segments.get(i));
+        getters[i] = getter != null ? ModelGetters.toHandle(getter) : null;
+        if (getters[i] == null) {
+          return null;
+        }
+        type = List.class.isAssignableFrom(getter.getReturnType()) ? ModelGetters.elementType(getter)
+            : getter.getReturnType();
+        if (type == null) {
+          return null;
+        }
+      }
+      var referenceType = ReferenceTypes.find(type);
+      return referenceType != null ? new ReferencePath(getters, referenceType) : null;
+    }
+
+    void collect(Object value, int index, List<Reference> references) {
+      if (value == null) {
+        return;
+      }
+      if (value instanceof List<?> items) {
+        items.forEach(item -> collect(item, index, references));
+        return;
+      }
+      if (index == getters.length) {
+        references.add((Reference) value);
+        return;
+      }
+      try {
+        collect((Object) getters[index].invokeExact(value), index + 1, references);
+      } catch (Throwable e) {
+        throw new DataExportException("Could not read reference.", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.common.BaseResource;
+import com.commercetools.api.models.common.Reference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import tech.bison.dataexport.core.internal.exporter.ModelGetters;
+import tech.bison.dataexport.core.internal.exporter.QueryEndpoint;
+
+/**
+ * A reference type which can be resolved by querying the referenced resources by id. The resolved resource is set as
+ * {@code obj} of the reference, like an expanded reference.
+ *
+ * @param referenceClass the model type of the reference, e.g. {@code ChannelReference}
+ * @param obj returns the referenced resource or {@code null} if the reference is not resolved
+ * @param setObj sets the referenced resource
+ * @param cached whether the resources change rarely and are kept in the {@link ReferenceCache}
+ * @param endpoint the query endpoint of the referenced resources
+ */
+public record ReferenceType<R extends Reference, T extends BaseResource>(
+    Class<R> referenceClass, Function<R, T> obj, BiConsumer<R, T> setObj, boolean cached,
+    Function<ProjectApiRoot, QueryEndpoint<T>> endpoint) {
+
+  /**
+   * @return the model type of the referenced resources, e.g. {@code Channel}
+   */
+  @SuppressWarnings("unchecked")
+  public Class<T> resourceClass() {
+    return (Class<T>) ModelGetters.find(referenceClass, "obj").getReturnType();
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.models.category.CategoryReference;
+import com.commercetools.api.models.channel.ChannelReference;
+import com.commercetools.api.models.customer.CustomerReference;
+import com.commercetools.api.models.customer_group.CustomerGroupReference;
+import com.commercetools.api.models.product_type.ProductTypeReference;
+import com.commercetools.api.models.shipping_method.ShippingMethodReference;
+import com.commercetools.api.models.state.StateReference;
+import com.commercetools.api.models.tax_category.TaxCategoryReference;
+import java.util.List;
+import tech.bison.dataexport.core.internal.exporter.QueryEndpoint;
+
+/**
+ * The reference types which can be resolved for export fields. Customers change too often to be cached, all other
+ * reference types are slowly changing reference data.
+ */
+public final class ReferenceTypes {
+
+  private static final List<ReferenceType<?, ?>> TYPES = List.of(
+      new ReferenceType<>(CustomerReference.class, CustomerReference::getObj, CustomerReference::setObj, false,
+          root -> QueryEndpoint.of(root.customers()::get)),
+      new ReferenceType<>(CustomerGroupReference.class, CustomerGroupReference::getObj,
+          CustomerGroupReference::setObj, true, root -> QueryEndpoint.of(root.customerGroups()::get)),
+      new ReferenceType<>(ChannelReference.class, ChannelReference::getObj, ChannelReference::setObj, true,
+          root -> QueryEndpoint.of(root.channels()::get)),
+      new ReferenceType<>(TaxCategoryReference.class, TaxCategoryReference::getObj, TaxCategoryReference::setObj, true,
+          root -> QueryEndpoint.of(root.taxCategories()::get)),
+      new ReferenceType<>(ShippingMethodReference.class, ShippingMethodReference::getObj,
+          ShippingMethodReference::setObj, true, root -> QueryEndpoint.of(root.shippingMethods()::get)),
+      new ReferenceType<>(ProductTypeReference.class, ProductTypeReference::getObj, ProductTypeReference::setObj, true,
+          root -> QueryEndpoint.of(root.productTypes()::get)),
+      new ReferenceType<>(StateReference.class, StateReference::getObj, StateReference::setObj, true,
+          root -> QueryEndpoint.of(root.states()::get)),
+      new ReferenceType<>(CategoryReference.class, CategoryReference::getObj, CategoryReference::setObj, true,
+          root -> QueryEndpoint.of(root.categories()::get)));
+
+  private ReferenceTypes() {
+  }
+
+  /**
+   * @return the reference type of the given model type or {@code null} if references of the model type cannot be
+   * resolved
+   */
+  public static ReferenceType<?, ?> find(Class<?> modelType) {
+    for (var type : TYPES) {
+      if (type.referenceClass().isAssignableFrom(modelType)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the reference type with the given {@link #name(ReferenceType) name} or {@code null} if there is none
+   */
+  public static ReferenceType<?, ?> find(String name) {
+    for (var type : TYPES) {
+      if (name(type).equals(name)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the stable name of the reference type, e.g. {@code ChannelReference}
+   */
+  public static String name(ReferenceType<?, ?> type) {
+    return type.referenceClass().getSimpleName();
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.metrics.ExportMetrics;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.api.metrics.LatencyHistogram;
+
+/**
+ * Collects the metrics of the export of one resource type. All methods are thread safe.
+ */
+public class ExportMetricsRecorder {
+
+  private final ExportableResourceType resourceType;
+  private final ExportMetricsListener listener;
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder childRows = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder pages = new LongAdder();
+  private final LongAdder failedRequests = new LongAdder();
+  private final LongAdder referenceRequests = new LongAdder();
+  private final LongAdder referenceCacheHits = new LongAdder();
+  private final LongAdder referenceCacheMisses = new LongAdder();
+  private final LongAdder fetchNanos = new LongAdder();
+  private final LongAdder pageNanos = new LongAdder();
+  private final LongAdder writeNanos = new LongAdder();
+  private final LongAdder uploadNanos = new LongAdder();
+  private final AtomicLongArray pageLatencyCounts = new AtomicLongArray(LatencyHistogram.BUCKETS);
+  private final AtomicLong maxPageLatencyNanos = new AtomicLong();
+  private final Queue<String> blobNames = new ConcurrentLinkedQueue<>();
+  private volatile long startNanos = System.nanoTime();
+
+  public ExportMetricsRecorder(ExportableResourceType resourceType, ExportMetricsListener listener) {
+    this.resourceType = resourceType;
+    this.listener = listener;
+  }
+
+  /**
+   * Starts the total time of the export.
+   */
+  public void start() {
+    startNanos = System.nanoTime();
+  }
+
+  public void recordPage(int results, long latencyNanos) {
+    recordPageLatency(latencyNanos);
+    listener.onPageFetched(resourceType, results, Duration.ofNanos(latencyNanos));
+  }
+
+  /**
+   * Records a page which was passed to the data writer. Unlike the requests, it does not count failed attempts and
+   * the queries which find the boundaries of the fetch slices.
+   */
+  public void recordExportedPage() {
+    pages.increment();
+  }
+
+  /**
+   * Records a page query which failed. It counts as request, so retried and throttled attempts are visible in the
+   * request count and the page latency.
+   */
+  public void recordFailedPage(long latencyNanos) {
+    failedRequests.increment();
+    recordPageLatency(latencyNanos);
+  }
+
+  /**
+   * Records a query of referenced resources, which is part of the fetch time but not of the page latency.
+   */
+  public void recordReferenceRequest(long latencyNanos) {
+    referenceRequests.increment();
+    fetchNanos.add(latencyNanos);
+  }
+
+  public void recordReferenceCacheLookups(long hits, long misses) {
+    referenceCacheHits.add(hits);
+    referenceCacheMisses.add(misses);
+  }
+
+  public void recordRow(long writeNanos) {
+    rows.increment();
+    this.writeNanos.add(writeNanos);
+  }
+
+  public void recordChildRows(long childRows) {
+    this.childRows.add(childRows);
+  }
+
+  public void recordWrite(long writeNanos) {
+    this.writeNanos.add(writeNanos);
+  }
+
+  public void recordUpload(long bytes, long uploadNanos) {
+    this.bytes.add(bytes);
+    this.uploadNanos.add(uploadNanos);
+  }
+
+  public void recordBlob(String blobName) {
+    blobNames.add(blobName);
+  }
+
+  /**
+   * @return the names of the uploaded files in the order of their upload completion
+   */
+  public List<String> getBlobNames() {
+    return List.copyOf(blobNames);
+  }
+
+  private void recordPageLatency(long latencyNanos) {
+    fetchNanos.add(latencyNanos);
+    pageNanos.add(latencyNanos);
+    pageLatencyCounts.incrementAndGet(LatencyHistogram.bucketOf(Duration.ofNanos(latencyNanos)));
+    maxPageLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+  }
+
+  public ExportMetrics snapshot() {
+    long[] counts = new long[LatencyHistogram.BUCKETS];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = pageLatencyCounts.get(i);
+    }
+    var pageLatency = new LatencyHistogram(counts, Duration.ofNanos(pageNanos.sum()),
+        Duration.ofNanos(maxPageLatencyNanos.get()));
+    return new ExportMetrics(rows.sum(), childRows.sum(), bytes.sum(), pages.sum(), pageLatency.getCount(),
+        failedRequests.sum(), referenceRequests.sum(), referenceCacheHits.sum(), referenceCacheMisses.sum(),
+        pageLatency, Duration.ofNanos(fetchNanos.sum()), Duration.ofNanos(writeNanos.sum()),
+        Duration.ofNanos(uploadNanos.sum()), Duration.ofNanos(System.nanoTime() - startNanos));
+  }
+
+  /**
+   * Passes the current metrics to the listener.
+   *
+   * @return the published metrics
+   */
+  public ExportMetrics publish() {
+    var metrics = snapshot();
+    listener.onResourceExported(resourceType, metrics);
+    return metrics;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.state;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.Properties;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.state.ExportStateStore;
+
+/**
+ * Stores the export state in a local properties file. The file is replaced atomically on every update.
+ */
+public class FileExportStateStore implements ExportStateStore {
+
+  private static final String WATERMARK_SUFFIX = ".watermark";
+  private final Path stateFile;
+
+  public FileExportStateStore(Path stateFile) {
+    this.stateFile = stateFile;
+  }
+
+  @Override
+  public synchronized Optional<ZonedDateTime> getWatermark(ExportableResourceType resourceType) {
+    return Optional.ofNullable(load().getProperty(resourceType.getName() + WATERMARK_SUFFIX))
+        .map(ZonedDateTime::parse);
+  }
+
+  @Override
+  public synchronized void saveWatermark(ExportableResourceType resourceType, ZonedDateTime watermark) {
+    var properties = load();
+    properties.setProperty(resourceType.getName() + WATERMARK_SUFFIX, watermark.toString());
+    Path tempFile = null;
+    try {
+      var absoluteStateFile = stateFile.toAbsolutePath();
+      Files.createDirectories(absoluteStateFile.getParent());
+      tempFile = Files.createTempFile(absoluteStateFile.getParent(), absoluteStateFile.getFileName().toString(),
+          ".tmp");
+      try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+        properties.store(writer, "commercetools data export state");
+      }
+      Files.move(tempFile, absoluteStateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException | RuntimeException e) {
+      deleteQuietly(tempFile);
+      throw new DataExportException(String.format("Could not write export state file '%s'.", stateFile), e);
+    }
+  }
+
+  private static void deleteQuietly(Path tempFile) {
+    if (tempFile == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(tempFile);
+    } catch (IOException e) {
+      // the previous state file is still intact, a stale temporary file does not affect the next export
+    }
+  }
+
+  private Properties load() {
+    var properties = new Properties();
+    if (Files.exists(stateFile)) {
+      try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+        properties.load(reader);
+      } catch (IOException e) {
+        throw new DataExportException(String.format("Could not read export state file '%s'.", stateFile), e);
+      }
+    }
+    return properties;
+  }
+}
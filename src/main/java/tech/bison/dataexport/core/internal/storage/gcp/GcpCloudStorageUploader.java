@@ -16,50 +16,106 @@
 package tech.bison.dataexport.core.internal.storage.gcp;
 
 import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.bison.dataexport.core.api.configuration.GcpCloudStorageProperties;
 import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.storage.BlobDescriptor;
 import tech.bison.dataexport.core.api.storage.CloudStorageUploader;
+import tech.bison.dataexport.core.api.storage.UploadOutputStream;
 
+/**
+ * Uploads to a GCS bucket. The storage client and its credentials are created on first use and shared by all uploads,
+ * the credentials refresh their access token on demand. Files are uploaded by a background executor which is shut down
+ * on {@link #close()}, after the running uploads have completed.
+ */
 public class GcpCloudStorageUploader implements CloudStorageUploader {
 
   private static final Logger LOG = LoggerFactory.getLogger(GcpCloudStorageUploader.class);
   private final GcpCloudStorageProperties gcpCloudStorageProperties;
+  private final ExecutorService uploadExecutor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("gcs-upload-", 0).factory());
+  private Storage storage;
 
   public GcpCloudStorageUploader(GcpCloudStorageProperties gcpCloudStorageProperties) {
     this.gcpCloudStorageProperties = gcpCloudStorageProperties;
   }
 
   @Override
-  public void upload(String name, byte[] data) {
+  public UploadOutputStream openOutputStream(BlobDescriptor blob) {
     try {
       var storage = getStorage();
-      BlobId blobId = BlobId.of(gcpCloudStorageProperties.bucketName(), name);
-      BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType("text/csv").build();
-      Blob blob = storage.create(blobInfo, data);
-      LOG.info("Created blob '{}' in bucket '{}'", name, gcpCloudStorageProperties.bucketName());
-      LOG.debug("The hash of the created blob is {}", blob.getMd5ToHexString());
+      LOG.info("Started upload of blob '{}' to bucket '{}'", blob.name(), gcpCloudStorageProperties.bucketName());
+      return new GcpUploadOutputStream(blob.name(), storage.writer(toBlobInfo(blob)));
     } catch (IOException e) {
       throw new DataExportException(
-          String.format("Error while uploading blob data with name '%s' to google cloud storage.", name), e);
+          String.format("Error while uploading blob data with name '%s' to google cloud storage.", blob.name()), e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> uploadAsync(BlobDescriptor blob, Path file) {
+    return CompletableFuture.runAsync(() -> {
+      try {
+        getStorage().createFrom(toBlobInfo(blob), file);
+        LOG.info("Created blob '{}'", blob.name());
+      } catch (IOException e) {
+        throw new DataExportException(
+            String.format("Error while uploading blob data with name '%s' to google cloud storage.", blob.name()), e);
+      }
+    }, uploadExecutor);
+  }
+
+  @Override
+  public void close() {
+    uploadExecutor.close();
+    Storage storageToClose;
+    synchronized (this) {
+      storageToClose = storage;
+      storage = null;
+    }
+    if (storageToClose != null) {
+      try {
+        storageToClose.close();
+      } catch (Exception e) {
+        LOG.warn("Could not close the google cloud storage client.", e);
+      }
+    }
+  }
+
+  private BlobInfo toBlobInfo(BlobDescriptor blob) {
+    BlobId blobId = BlobId.of(gcpCloudStorageProperties.bucketName(), blob.name());
+    var blobInfoBuilder = BlobInfo.newBuilder(blobId).setContentType(blob.contentType());
+    if (blob.contentEncoding() != null) {
+      blobInfoBuilder.setContentEncoding(blob.contentEncoding());
+    }
+    return blobInfoBuilder.build();
+  }
+
+  private synchronized Storage getStorage() throws IOException {
+    if (storage == null) {
+      storage = createStorage();
     }
+    return storage;
   }
 
-  private Storage getStorage() throws IOException {
+  private Storage createStorage() throws IOException {
     var storageBuilder = StorageOptions.newBuilder().setProjectId(gcpCloudStorageProperties.projectId());
     if (gcpCloudStorageProperties.credentialPath() != null && !gcpCloudStorageProperties.credentialPath().isEmpty()) {
-      var credentials = GoogleCredentials.fromStream(new FileInputStream(gcpCloudStorageProperties.credentialPath()))
-          .createScoped("https://www.googleapis.com/auth/cloud-platform");
-      credentials.refreshIfExpired();
-      storageBuilder.setCredentials(credentials);
+      try (var credentialsStream = new FileInputStream(gcpCloudStorageProperties.credentialPath())) {
+        storageBuilder.setCredentials(GoogleCredentials.fromStream(credentialsStream)
+            .createScoped("https://www.googleapis.com/auth/cloud-platform"));
+      }
     }
     return storageBuilder.build().getService();
   }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.storage.gcp;
+
+import com.google.cloud.WriteChannel;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.bison.dataexport.core.api.storage.UploadOutputStream;
+
+/**
+ * Upload stream backed by a GCS resumable upload session. The session is only finalized on {@link #close()}, an
+ * aborted session is never finalized and expires on the GCS side.
+ */
+class GcpUploadOutputStream extends UploadOutputStream {
+
+  private static final Logger LOG = LoggerFactory.getLogger(GcpUploadOutputStream.class);
+  private final String name;
+  private final WriteChannel writeChannel;
+  private final OutputStream delegate;
+  private boolean aborted;
+
+  GcpUploadOutputStream(String name, WriteChannel writeChannel) {
+    this.name = name;
+    this.writeChannel = writeChannel;
+    this.delegate = Channels.newOutputStream(writeChannel);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    delegate.write(b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    delegate.write(b, off, len);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!aborted && writeChannel.isOpen()) {
+      delegate.close();
+      LOG.info("Created blob '{}'", name);
+    }
+  }
+
+  @Override
+  public void abort() {
+    if (!aborted && writeChannel.isOpen()) {
+      LOG.warn("Aborted upload of blob '{}'. The blob is not created.", name);
+    }
+    aborted = true;
+  }
+}
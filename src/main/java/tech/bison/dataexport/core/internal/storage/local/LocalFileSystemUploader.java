@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.storage.local;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.bison.dataexport.core.api.configuration.LocalStorageProperties;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.storage.BlobDescriptor;
+import tech.bison.dataexport.core.api.storage.CloudStorageUploader;
+import tech.bison.dataexport.core.api.storage.UploadOutputStream;
+
+/**
+ * Stores the blobs as files below a local root directory. Every file is written to a hidden temporary file in the
+ * target directory and atomically renamed when it is complete, so readers never see partial files. On POSIX file
+ * systems the published files get the permissions {@code rw-r--r--}, while the temporary files are only accessible by
+ * the owner. Content type and encoding are not stored, the file extension carries them.
+ */
+public class LocalFileSystemUploader implements CloudStorageUploader {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LocalFileSystemUploader.class);
+  private static final Set<PosixFilePermission> FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-r--r--");
+  private final Path rootDirectory;
+  private final ExecutorService uploadExecutor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("local-upload-", 0).factory());
+
+  public LocalFileSystemUploader(LocalStorageProperties localStorageProperties) {
+    this.rootDirectory = localStorageProperties.rootDirectory().toAbsolutePath().normalize();
+  }
+
+  @Override
+  public UploadOutputStream openOutputStream(BlobDescriptor blob) {
+    var target = resolve(blob);
+    try {
+      var temporaryFile = createTemporaryFile(target);
+      return new LocalUploadOutputStream(FileChannel.open(temporaryFile, StandardOpenOption.WRITE), temporaryFile,
+          target);
+    } catch (IOException e) {
+      throw new DataExportException(String.format("Error while writing blob with name '%s' to '%s'.", blob.name(),
+          target), e);
+    }
+  }
+
+  /**
+   * Moves the file next to the target and publishes it there. On the same file system this is a rename without copying
+   * the data, otherwise the file is copied and deleted.
+   */
+  @Override
+  public CompletableFuture<Void> uploadAsync(BlobDescriptor blob, Path file) {
+    var target = resolve(blob);
+    return CompletableFuture.runAsync(() -> {
+      Path temporaryFile = null;
+      try {
+        temporaryFile = createTemporaryFile(target);
+        Files.move(file, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+        publish(temporaryFile, target);
+      } catch (IOException e) {
+        deleteQuietly(temporaryFile);
+        throw new DataExportException(String.format("Error while writing blob with name '%s' to '%s'.", blob.name(),
+            target), e);
+      }
+    }, uploadExecutor);
+  }
+
+  @Override
+  public void close() {
+    uploadExecutor.close();
+  }
+
+  static void publish(Path temporaryFile, Path target) throws IOException {
+    if (Files.getFileStore(temporaryFile).supportsFileAttributeView(PosixFileAttributeView.class)) {
+      Files.setPosixFilePermissions(temporaryFile, FILE_PERMISSIONS);
+    }
+    Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    LOG.info("Created file '{}'", target);
+  }
+
+  static void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.warn("Could not delete temporary file '{}'.", file, e);
+    }
+  }
+
+  private Path resolve(BlobDescriptor blob) {
+    var target = rootDirectory.resolve(blob.name()).normalize();
+    if (!target.startsWith(rootDirectory) || target.equals(rootDirectory)) {
+      throw new DataExportException(
+          String.format("The blob name '%s' is not a file below '%s'.", blob.name(), rootDirectory));
+    }
+    return target;
+  }
+
+  private static Path createTemporaryFile(Path target) throws IOException {
+    Files.createDirectories(target.getParent());
+    return Files.createTempFile(target.getParent(), "." + target.getFileName(), ".part");
+  }
+}
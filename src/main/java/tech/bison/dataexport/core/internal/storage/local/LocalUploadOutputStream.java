@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.storage.local;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import tech.bison.dataexport.core.api.storage.UploadOutputStream;
+
+/**
+ * Writes to a temporary file through a direct buffer. On {@link #close()} the data is forced to disk and the file is
+ * renamed to its target, an aborted file is deleted.
+ */
+class LocalUploadOutputStream extends UploadOutputStream {
+
+  private static final int BUFFER_SIZE = 256 * 1024;
+  private final FileChannel channel;
+  private final Path temporaryFile;
+  private final Path target;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  private boolean closed;
+
+  LocalUploadOutputStream(FileChannel channel, Path temporaryFile, Path target) {
+    this.channel = channel;
+    this.temporaryFile = temporaryFile;
+    this.target = target;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (!buffer.hasRemaining()) {
+      flushBuffer();
+    }
+    buffer.put((byte) b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (len > buffer.remaining()) {
+      flushBuffer();
+    }
+    if (len >= BUFFER_SIZE) {
+      var source = ByteBuffer.wrap(b, off, len);
+      while (source.hasRemaining()) {
+        channel.write(source);
+      }
+      return;
+    }
+    buffer.put(b, off, len);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      flushBuffer();
+      channel.force(false);
+      channel.close();
+      LocalFileSystemUploader.publish(temporaryFile, target);
+    } catch (IOException e) {
+      channel.close();
+      LocalFileSystemUploader.deleteQuietly(temporaryFile);
+      throw e;
+    }
+  }
+
+  @Override
+  public void abort() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // the file is deleted anyway
+    }
+    LocalFileSystemUploader.deleteQuietly(temporaryFile);
+  }
+
+  private void flushBuffer() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
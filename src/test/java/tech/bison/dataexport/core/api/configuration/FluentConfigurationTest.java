@@ -19,9 +19,12 @@ import static tech.bison.dataexport.core.api.executor.ExportableResourceType.CUS
 import static tech.bison.dataexport.core.api.executor.ExportableResourceType.ORDER;
 
 import com.commercetools.api.client.ProjectApiRoot;
+import java.time.Clock;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
 
 class FluentConfigurationTest {
 
@@ -60,14 +63,64 @@ class FluentConfigurationTest {
   }
 
   @Test
-  void load_withMissingGcpCloudStorageProperties_throwsException() {
+  void load_withMissingStorageProperties_throwsException() {
     var configuration = new FluentConfiguration()
         .withApiRoot(mock(ProjectApiRoot.class))
         .withExportFields(ORDER, List.of("id"));
 
     assertThatThrownBy(configuration::load)
         .isInstanceOf(DataExportException.class)
-        .hasMessage("GCP cloud storage configuration is missing.");
+        .hasMessage("Storage configuration is missing. "
+            + "Either use withGcpCloudStorageProperties() or withLocalStorageProperties().");
+  }
+
+  @Test
+  void load_withInvalidMaxConcurrentExports_throwsException() {
+    var configuration = new FluentConfiguration()
+        .withApiRoot(mock(ProjectApiRoot.class))
+        .withGcpCloudStorageProperties(createValidCloudStorageConfiguration())
+        .withExportFields(ORDER, List.of("id"))
+        .withMaxConcurrentExports(0);
+
+    assertThatThrownBy(configuration::load)
+        .isInstanceOf(DataExportException.class)
+        .hasMessage("The maximum number of concurrent exports must be at least 1.");
+  }
+
+  @Test
+  void load_withLocalStorageWithoutRootDirectory_throwsException() {
+    var configuration = new FluentConfiguration()
+        .withApiRoot(mock(ProjectApiRoot.class))
+        .withLocalStorageProperties(new LocalStorageProperties(null))
+        .withExportFields(ORDER, List.of("id"));
+
+    assertThatThrownBy(configuration::load)
+        .isInstanceOf(DataExportException.class)
+        .hasMessage("The root directory of the local storage must not be null.");
+  }
+
+  @Test
+  void load_withCompressionLevelOutOfRange_throwsException() {
+    var configuration = new FluentConfiguration()
+        .withApiRoot(mock(ProjectApiRoot.class))
+        .withGcpCloudStorageProperties(createValidCloudStorageConfiguration())
+        .withExportFields(ORDER, List.of("id"))
+        .withCompression(CompressionCodec.GZIP, 12);
+
+    assertThatThrownBy(configuration::load)
+        .isInstanceOf(DataExportException.class)
+        .hasMessage("The compression level of GZIP must be between 0 and 9.");
+  }
+
+  @Test
+  void load_withZstdCompressionLevel_returnsDataExport() {
+    var configuration = new FluentConfiguration()
+        .withApiRoot(mock(ProjectApiRoot.class))
+        .withGcpCloudStorageProperties(createValidCloudStorageConfiguration())
+        .withExportFields(ORDER, List.of("id"))
+        .withCompression(CompressionCodec.ZSTD, 19);
+
+    assertThat(configuration.load()).isNotNull();
   }
 
   @Test
@@ -101,6 +154,56 @@ class FluentConfigurationTest {
     assertThat(configuration.load()).isNotNull();
   }
 
+  @Test
+  void configuration_withOnlyOriginalSettings_usesFluentConfigurationDefaults() {
+    Configuration configuration = new Configuration() {
+      @Override
+      public ProjectApiRoot getApiRoot() {
+        return null;
+      }
+
+      @Override
+      public CommercetoolsProperties getApiProperties() {
+        return null;
+      }
+
+      @Override
+      public GcpCloudStorageProperties getGcpCloudStorageProperties() {
+        return null;
+      }
+
+      @Override
+      public Map<ExportableResourceType, DataExportProperties> getResourceExportProperties() {
+        return Map.of();
+      }
+
+      @Override
+      public Clock getClock() {
+        return null;
+      }
+    };
+    var defaults = new FluentConfiguration();
+
+    assertThat(configuration.getMaxConcurrentExports()).isEqualTo(defaults.getMaxConcurrentExports());
+    assertThat(configuration.getFetchSlices()).isEqualTo(defaults.getFetchSlices());
+    assertThat(configuration.getPrefetchPages()).isEqualTo(defaults.getPrefetchPages());
+    assertThat(configuration.getFetchMode()).isEqualTo(defaults.getFetchMode());
+    assertThat(configuration.getCompressionCodec()).isEqualTo(defaults.getCompressionCodec());
+    assertThat(configuration.getCompressionLevel()).isEqualTo(defaults.getCompressionLevel());
+    assertThat(configuration.getMaxRowsPerFile()).isEqualTo(defaults.getMaxRowsPerFile());
+    assertThat(configuration.getMaxBytesPerFile()).isEqualTo(defaults.getMaxBytesPerFile());
+    assertThat(configuration.getMaxConcurrentUploads()).isEqualTo(defaults.getMaxConcurrentUploads());
+    assertThat(configuration.getReferenceCacheSize()).isEqualTo(defaults.getReferenceCacheSize());
+    assertThat(configuration.getMaxConcurrentRequests()).isEqualTo(defaults.getMaxConcurrentRequests());
+    assertThat(configuration.getMaxRequestAttempts()).isEqualTo(defaults.getMaxRequestAttempts());
+    assertThat(configuration.getInitialRetryBackoff()).isEqualTo(defaults.getInitialRetryBackoff());
+    assertThat(configuration.getExportThreadFactory()).isNotNull();
+    assertThat(configuration.getLocalStorageProperties()).isNull();
+    assertThat(configuration.getExportStateStore()).isNull();
+    assertThat(configuration.getReferenceCacheFile()).isNull();
+    assertThat(configuration.getMetricsListener()).isNull();
+  }
+
   private GcpCloudStorageProperties createValidCloudStorageConfiguration() {
     return new GcpCloudStorageProperties("projectId", "bucketName", null);
   }
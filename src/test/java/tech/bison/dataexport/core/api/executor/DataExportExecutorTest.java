@@ -17,7 +17,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.bison.dataexport.core.api.ResourceExportResult.FAILED;
@@ -25,18 +27,40 @@ import static tech.bison.dataexport.core.api.ResourceExportResult.SUCCESS;
 import static tech.bison.dataexport.core.api.executor.ExportableResourceType.CUSTOMER;
 import static tech.bison.dataexport.core.api.executor.ExportableResourceType.ORDER;
 
+import com.commercetools.api.models.order.Order;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import tech.bison.dataexport.core.api.configuration.CompressionCodec;
 import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.configuration.OutputFormat;
+import tech.bison.dataexport.core.api.metrics.ExportMetrics;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.api.state.ExportStateStore;
+import tech.bison.dataexport.core.api.storage.BlobDescriptor;
 import tech.bison.dataexport.core.api.storage.CloudStorageUploader;
+import tech.bison.dataexport.core.api.storage.UploadOutputStream;
 import tech.bison.dataexport.core.internal.exector.DataExportExecutor;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,28 +72,282 @@ class DataExportExecutorTest {
   private DataWriter customerDataWriter;
   @Mock
   private DataWriter orderDataWriter;
+  @Mock
+  private UploadOutputStream orderOutputStream;
+  @Mock
+  private UploadOutputStream customerOutputStream;
 
   @Test
-  void execute_allDataExportCommands() {
-    var context = mock(Context.class);
+  void execute_allDataExportCommands() throws IOException {
+    var context = mockContext();
     var orderProperties = new DataExportProperties(ORDER, List.of());
     var customerProperties = new DataExportProperties(CUSTOMER, List.of());
     when(context.getResourceExportProperties()).thenReturn(
         Map.of(ORDER, orderProperties, CUSTOMER, customerProperties));
     when(context.getClock()).thenReturn(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneId.of("UTC")));
+    when(cloudStorageUploader.openOutputStream(csvBlob("orders/orders_2026_01_01_10_00_00.csv")))
+        .thenReturn(orderOutputStream);
+    when(cloudStorageUploader.openOutputStream(csvBlob("customers/customers_2026_01_01_10_00_00.csv")))
+        .thenReturn(customerOutputStream);
     var exporterSuccess = mock(DataExporter.class);
 
     var exporterFailure = mock(DataExporter.class);
-    doThrow(RuntimeException.class).when(exporterFailure).export(any(), any());
+    var failure = new RuntimeException("export failed");
+    doThrow(failure).when(exporterFailure).export(any(), any());
 
     var executor = createDataExportExecutor(exporterSuccess, exporterFailure);
     DataExportResult result = executor.execute(context);
 
-    assertThat(result.getResourceSummary(ORDER)).isEqualTo(SUCCESS);
-    verify(cloudStorageUploader, Mockito.times(1)).upload(eq("orders/orders_2026_01_01_10_00_00.csv"),
-        any(byte[].class));
-    assertThat(result.getResourceSummary(CUSTOMER)).isEqualTo(FAILED);
+    assertThat(result.getResourceSummary(ORDER).status()).isEqualTo(SUCCESS);
+    assertThat(result.getResourceSummary(ORDER).blobNames()).containsExactly("orders/orders_2026_01_01_10_00_00.csv");
+    assertThat(result.getResourceSummary(ORDER).failureCause()).isNull();
+    verify(orderOutputStream).close();
+    verify(orderOutputStream, never()).abort();
+    assertThat(result.getResourceSummary(CUSTOMER).status()).isEqualTo(FAILED);
+    assertThat(result.getResourceSummary(CUSTOMER).blobNames()).isEmpty();
+    assertThat(result.getResourceSummary(CUSTOMER).failureCause()).isSameAs(failure);
+    verify(customerOutputStream).abort();
+    verify(customerOutputStream, never()).close();
+
+  }
+
+  @Test
+  void execute_concurrentExports_collectAllResults() throws IOException {
+    var context = mockContext();
+    when(context.getResourceExportProperties()).thenReturn(
+        Map.of(ORDER, new DataExportProperties(ORDER, List.of()), CUSTOMER,
+            new DataExportProperties(CUSTOMER, List.of())));
+    when(context.getClock()).thenReturn(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneId.of("UTC")));
+    when(context.getMaxConcurrentExports()).thenReturn(2);
+    when(context.getExportThreadFactory()).thenReturn(Thread.ofVirtual().factory());
+    when(cloudStorageUploader.openOutputStream(csvBlob("orders/orders_2026_01_01_10_00_00.csv")))
+        .thenReturn(orderOutputStream);
+    when(cloudStorageUploader.openOutputStream(csvBlob("customers/customers_2026_01_01_10_00_00.csv")))
+        .thenReturn(customerOutputStream);
+    var exporterFailure = mock(DataExporter.class);
+    doThrow(RuntimeException.class).when(exporterFailure).export(any(), any());
+
+    var executor = createDataExportExecutor(mock(DataExporter.class), exporterFailure);
+    DataExportResult result = executor.execute(context);
+
+    assertThat(result.getResourceSummary(ORDER).status()).isEqualTo(SUCCESS);
+    assertThat(result.getResourceSummary(CUSTOMER).status()).isEqualTo(FAILED);
+    verify(orderOutputStream).close();
+    verify(customerOutputStream).abort();
+  }
+
+  @Test
+  void execute_incrementalExport_saveWatermarkOfLatestResource() {
+    var context = mockContext();
+    var exportStateStore = mock(ExportStateStore.class);
+    when(context.getResourceExportProperties()).thenReturn(Map.of(ORDER, new DataExportProperties(ORDER, List.of())));
+    when(context.getClock()).thenReturn(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneId.of("UTC")));
+    when(context.getExportStateStore()).thenReturn(exportStateStore);
+    when(cloudStorageUploader.openOutputStream(csvBlob("orders/orders_2026_01_01_10_00_00.csv")))
+        .thenReturn(orderOutputStream);
+    DataExporter exporter = (exportContext, dataWriter) -> {
+      dataWriter.writeRow(
+          Order.builder().id("1").lastModifiedAt(ZonedDateTime.parse("2025-12-02T10:00:00Z")).buildUnchecked());
+      dataWriter.writeRow(
+          Order.builder().id("2").lastModifiedAt(ZonedDateTime.parse("2025-12-01T10:00:00Z")).buildUnchecked());
+    };
+
+    var executor = createDataExportExecutor(exporter, mock(DataExporter.class));
+    executor.execute(context);
+
+    verify(exportStateStore).saveWatermark(ORDER, ZonedDateTime.parse("2025-12-02T10:00:00Z"));
+  }
+
+  @Test
+  void execute_gzipCompression_uploadCompressedData() throws IOException {
+    var context = mockContext();
+    when(context.getResourceExportProperties()).thenReturn(Map.of(ORDER, new DataExportProperties(ORDER, List.of())));
+    when(context.getClock()).thenReturn(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneId.of("UTC")));
+    when(context.getCompressionCodec()).thenReturn(CompressionCodec.GZIP);
+    when(context.getCompressionLevel()).thenReturn(6);
+    var uploadedData = new ByteArrayOutputStream();
+    when(cloudStorageUploader.openOutputStream(
+        new BlobDescriptor("orders/orders_2026_01_01_10_00_00.csv.gz", "text/csv", "gzip")))
+        .thenReturn(new UploadOutputStream() {
+          @Override
+          public void write(int b) {
+            uploadedData.write(b);
+          }
+
+          @Override
+          public void abort() {
+          }
+        });
+    DataWriterProvider dataWriterProvider = (properties, outputStream) -> object -> {
+      try {
+        outputStream.write("order".getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+    DataExporter exporter = (exportContext, dataWriter) -> dataWriter.writeRow(Order.builder().buildUnchecked());
+
+    new DataExportExecutor(cloudStorageUploader, resourceType -> exporter, dataWriterProvider).execute(context);
+
+    try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(uploadedData.toByteArray()))) {
+      assertThat(inputStream.readAllBytes()).asString(StandardCharsets.UTF_8).isEqualTo("order");
+    }
+  }
+
+  @Test
+  void execute_parquetWithGzipCompression_uploadUncompressedFile() {
+    var context = mockContext();
+    when(context.getResourceExportProperties())
+        .thenReturn(Map.of(ORDER, new DataExportProperties(ORDER, List.of("id"), OutputFormat.PARQUET)));
+    when(context.getClock()).thenReturn(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneId.of("UTC")));
+    lenient().when(context.getCompressionCodec()).thenReturn(CompressionCodec.GZIP);
+    lenient().when(context.getCompressionLevel()).thenReturn(6);
+    var uploadedData = new ByteArrayOutputStream();
+    when(cloudStorageUploader.openOutputStream(
+        new BlobDescriptor("orders/orders_2026_01_01_10_00_00.parquet", "application/vnd.apache.parquet", null)))
+        .thenReturn(new UploadOutputStream() {
+          @Override
+          public void write(int b) {
+            uploadedData.write(b);
+          }
+
+          @Override
+          public void abort() {
+          }
+        });
+    DataWriterProvider dataWriterProvider = (properties, outputStream) -> object -> {
+      try {
+        outputStream.write("order".getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+    DataExporter exporter = (exportContext, dataWriter) -> dataWriter.writeRow(Order.builder().buildUnchecked());
+
+    var result = new DataExportExecutor(cloudStorageUploader, resourceType -> exporter, dataWriterProvider)
+        .execute(context);
+
+    assertThat(result.getResourceSummary(ORDER).status()).isEqualTo(SUCCESS);
+    assertThat(uploadedData.toString(StandardCharsets.UTF_8)).isEqualTo("order");
+  }
+
+  @Test
+  void execute_fileRolling_uploadOneFilePerChunk() {
+    var context = mockContext();
+    when(context.getResourceExportProperties()).thenReturn(Map.of(ORDER, new DataExportProperties(ORDER, List.of())));
+    when(context.getClock()).thenReturn(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneId.of("UTC")));
+    when(context.isFileRollingEnabled()).thenReturn(true);
+    when(context.getMaxRowsPerFile()).thenReturn(2L);
+    when(context.getMaxConcurrentUploads()).thenReturn(2);
+    var uploadedFiles = new ConcurrentHashMap<String, String>();
+    when(cloudStorageUploader.uploadAsync(any(), any())).thenAnswer(invocation -> {
+      uploadedFiles.put(invocation.<BlobDescriptor>getArgument(0).name(),
+          Files.readString(invocation.<Path>getArgument(1)));
+      return CompletableFuture.completedFuture(null);
+    });
+    DataWriterProvider dataWriterProvider = (properties, outputStream) -> object -> {
+      try {
+        outputStream.write(object.getId().getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+    DataExporter exporter = (exportContext, dataWriter) -> List.of("1", "2", "3")
+        .forEach(id -> dataWriter.writeRow(Order.builder().id(id).buildUnchecked()));
+
+    var result = new DataExportExecutor(cloudStorageUploader, resourceType -> exporter, dataWriterProvider)
+        .execute(context);
+
+    assertThat(result.getResourceSummary(ORDER).status()).isEqualTo(SUCCESS);
+    assertThat(uploadedFiles).hasSize(2);
+    assertThat(uploadedFiles).containsEntry("orders/orders_2026_01_01_10_00_00_00001.csv", "12")
+        .containsEntry("orders/orders_2026_01_01_10_00_00_00002.csv", "3");
+    assertThat(result.getResourceSummary(ORDER).rows()).isEqualTo(3);
+    assertThat(result.getResourceSummary(ORDER).bytes()).isEqualTo(3);
+    assertThat(result.getResourceSummary(ORDER).blobNames()).containsExactlyInAnyOrder(
+        "orders/orders_2026_01_01_10_00_00_00001.csv", "orders/orders_2026_01_01_10_00_00_00002.csv",
+        "orders/orders_2026_01_01_10_00_00_manifest.json");
+    var manifestCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(cloudStorageUploader).upload(eq(new BlobDescriptor("orders/orders_2026_01_01_10_00_00_manifest.json",
+        "application/json", null)), manifestCaptor.capture());
+    assertThat(manifestCaptor.getValue()).asString(StandardCharsets.UTF_8).isEqualTo("{\"files\":["
+        + "\"orders/orders_2026_01_01_10_00_00_00001.csv\",\"orders/orders_2026_01_01_10_00_00_00002.csv\"]}");
+  }
+
+  @Test
+  void execute_fileRollingExportFails_completeRunningUploadsWithoutManifest() {
+    var context = mockContext();
+    when(context.getResourceExportProperties()).thenReturn(Map.of(ORDER, new DataExportProperties(ORDER, List.of())));
+    when(context.getClock()).thenReturn(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneId.of("UTC")));
+    when(context.isFileRollingEnabled()).thenReturn(true);
+    when(context.getMaxRowsPerFile()).thenReturn(1L);
+    when(context.getMaxConcurrentUploads()).thenReturn(2);
+    var uploadedFile = new AtomicReference<Path>();
+    var fileExistedDuringUpload = new AtomicBoolean();
+    var runningUpload = new AtomicReference<CompletableFuture<Void>>();
+    when(cloudStorageUploader.uploadAsync(any(), any())).thenAnswer(invocation -> {
+      Path file = invocation.getArgument(1);
+      uploadedFile.set(file);
+      runningUpload.set(CompletableFuture.runAsync(() -> fileExistedDuringUpload.set(Files.exists(file)),
+          CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)));
+      return runningUpload.get();
+    });
+    DataWriterProvider dataWriterProvider = (properties, outputStream) -> object -> {
+    };
+    var failure = new RuntimeException("export failed");
+    DataExporter exporter = (exportContext, dataWriter) -> {
+      dataWriter.writeRow(Order.builder().id("1").buildUnchecked());
+      throw failure;
+    };
+
+    var result = new DataExportExecutor(cloudStorageUploader, resourceType -> exporter, dataWriterProvider)
+        .execute(context);
+
+    assertThat(result.getResourceSummary(ORDER).status()).isEqualTo(FAILED);
+    assertThat(result.getResourceSummary(ORDER).failureCause()).isSameAs(failure);
+    assertThat(runningUpload.get()).isDone().isNotCancelled();
+    assertThat(fileExistedDuringUpload).isTrue();
+    assertThat(uploadedFile.get()).doesNotExist();
+    verify(cloudStorageUploader, never()).upload(any(), any());
+  }
+
+  @Test
+  void execute_metricsListener_reportRowsAndBytes() {
+    var context = mockContext();
+    var metricsListener = mock(ExportMetricsListener.class);
+    when(context.getMetricsListener()).thenReturn(metricsListener);
+    when(context.getResourceExportProperties()).thenReturn(Map.of(ORDER, new DataExportProperties(ORDER, List.of())));
+    when(context.getClock()).thenReturn(Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneId.of("UTC")));
+    when(cloudStorageUploader.openOutputStream(csvBlob("orders/orders_2026_01_01_10_00_00.csv")))
+        .thenReturn(orderOutputStream);
+    DataWriterProvider dataWriterProvider = (properties, outputStream) -> object -> {
+      try {
+        outputStream.write("order".getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+    DataExporter exporter = (exportContext, dataWriter) -> {
+      dataWriter.writeRow(Order.builder().id("1").buildUnchecked());
+      dataWriter.writeRow(Order.builder().id("2").buildUnchecked());
+    };
+
+    new DataExportExecutor(cloudStorageUploader, resourceType -> exporter, dataWriterProvider).execute(context);
+
+    var metricsCaptor = ArgumentCaptor.forClass(ExportMetrics.class);
+    verify(metricsListener).onResourceExported(eq(ORDER), metricsCaptor.capture());
+    assertThat(metricsCaptor.getValue().rows()).isEqualTo(2);
+    assertThat(metricsCaptor.getValue().bytes()).isEqualTo(10);
+  }
+
+  private Context mockContext() {
+    var context = mock(Context.class);
+    lenient().when(context.getCompressionCodec()).thenReturn(CompressionCodec.NONE);
+    return context;
+  }
 
+  private BlobDescriptor csvBlob(String name) {
+    return new BlobDescriptor(name, "text/csv", null);
   }
 
   private DataExportExecutor createDataExportExecutor(DataExporter exporterSuccess, DataExporter exporterFailure) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.api.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void bucketOf_bucketBounds_latencyInBucketOfUpperBound() {
+    assertThat(LatencyHistogram.bucketOf(Duration.ZERO)).isEqualTo(0);
+    assertThat(LatencyHistogram.bucketOf(Duration.ofMillis(1))).isEqualTo(0);
+    assertThat(LatencyHistogram.bucketOf(Duration.ofMillis(1).plusNanos(1))).isEqualTo(1);
+    assertThat(LatencyHistogram.bucketOf(Duration.ofMillis(2))).isEqualTo(1);
+    assertThat(LatencyHistogram.bucketOf(Duration.ofMillis(3))).isEqualTo(2);
+    assertThat(LatencyHistogram.bucketOf(Duration.ofMillis(4))).isEqualTo(2);
+    assertThat(LatencyHistogram.bucketOf(Duration.ofMillis(1024))).isEqualTo(10);
+    assertThat(LatencyHistogram.bucketOf(Duration.ofMillis(1025))).isEqualTo(11);
+  }
+
+  @Test
+  void bucketOf_latencyAboveLargestBound_lastBucket() {
+    var largestBound = LatencyHistogram.upperBoundOf(LatencyHistogram.BUCKETS - 2);
+
+    assertThat(LatencyHistogram.bucketOf(largestBound)).isEqualTo(LatencyHistogram.BUCKETS - 2);
+    assertThat(LatencyHistogram.bucketOf(largestBound.plusMillis(1))).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    assertThat(LatencyHistogram.bucketOf(Duration.ofHours(1))).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.BUCKETS - 1)).isNull();
+  }
+
+  @Test
+  void getPercentile_latencies_upperBoundOfBucket() {
+    var counts = new long[LatencyHistogram.BUCKETS];
+    counts[0] = 98;
+    counts[5] = 1;
+    counts[LatencyHistogram.BUCKETS - 1] = 1;
+
+    var histogram = new LatencyHistogram(counts, Duration.ofSeconds(71), Duration.ofSeconds(70));
+
+    assertThat(histogram.getCount()).isEqualTo(100);
+    assertThat(histogram.getMean()).isEqualTo(Duration.ofMillis(710));
+    assertThat(histogram.getPercentile(50)).isEqualTo(Duration.ofMillis(1));
+    assertThat(histogram.getPercentile(99)).isEqualTo(Duration.ofMillis(32));
+    assertThat(histogram.getPercentile(100)).isEqualTo(Duration.ofSeconds(70));
+  }
+
+  @Test
+  void getPercentile_maxBelowUpperBound_max() {
+    var counts = new long[LatencyHistogram.BUCKETS];
+    counts[2] = 1;
+
+    var histogram = new LatencyHistogram(counts, Duration.ofMillis(3), Duration.ofMillis(3));
+
+    assertThat(histogram.getPercentile(50)).isEqualTo(Duration.ofMillis(3));
+  }
+
+  @Test
+  void getPercentile_empty_zero() {
+    var histogram = new LatencyHistogram(new long[LatencyHistogram.BUCKETS], Duration.ZERO, Duration.ZERO);
+
+    assertThat(histogram.getPercentile(99)).isEqualTo(Duration.ZERO);
+    assertThat(histogram.getMean()).isEqualTo(Duration.ZERO);
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class PageFetcherTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void forEachPage_slowQueryWithSlices_slicesFetchedConcurrently() {
+        var query = new FakeQuery(items(16), Duration.ofMillis(100));
+        var fetcher = new PageFetcher<>(query, FakeQuery.KEYS, FakeQuery.CODEC, 1, 4, 1,
+                Executors.defaultThreadFactory());
+        var ids = new ArrayList<String>();
+
+        long started = System.nanoTime();
+        fetcher.forEachPage(null, page -> page.forEach(item -> ids.add(item.id())));
+        var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(ids).containsExactlyElementsOf(items(16).stream().map(Item::id).toList());
+        // 2 queries for the slice bounds and 5 pages per slice: about 700 ms with independent slices, 1600 ms if the
+        // slices wait for the consumer after the prefetched page
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1200));
+    }
+
+    @Test
+    void forEachPage_prefetchPages_pagesInKeysetOrder() {
+        var query = new FakeQuery(items(10), Duration.ZERO);
+        var fetcher = new PageFetcher<>(query, FakeQuery.KEYS, FakeQuery.CODEC, 3, 1, 2,
+                Executors.defaultThreadFactory());
+        var pages = new ArrayList<List<String>>();
+
+        fetcher.forEachPage(null, page -> pages.add(page.stream().map(Item::id).toList()));
+
+        assertThat(pages).containsExactly(
+                List.of("id-000", "id-001", "id-002"),
+                List.of("id-003", "id-004", "id-005"),
+                List.of("id-006", "id-007", "id-008"),
+                List.of("id-009"));
+        assertThat(query.fetchThreads()).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    void forEachPage_noPrefetch_fetchedOnCallingThread() {
+        var query = new FakeQuery(items(5), Duration.ZERO);
+        var fetcher = new PageFetcher<>(query, FakeQuery.KEYS, FakeQuery.CODEC, 2, 1, 0,
+                Executors.defaultThreadFactory());
+        var ids = new ArrayList<String>();
+
+        fetcher.forEachPage(null, page -> page.forEach(item -> ids.add(item.id())));
+
+        assertThat(ids).containsExactly("id-000", "id-001", "id-002", "id-003", "id-004");
+        assertThat(query.fetchThreads()).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    void forEachPage_slowConsumer_producerAtMostPrefetchPagesAhead() {
+        var query = new FakeQuery(items(10), Duration.ZERO);
+        var fetcher = new PageFetcher<>(query, FakeQuery.KEYS, FakeQuery.CODEC, 1, 1, 2,
+                Executors.defaultThreadFactory());
+        var fetchesAhead = new ArrayList<Integer>();
+        var consumed = new int[1];
+
+        fetcher.forEachPage(null, page -> {
+            consumed[0]++;
+            FakeQuery.sleep(Duration.ofMillis(20));
+            fetchesAhead.add(query.fetches() - consumed[0]);
+        });
+
+        assertThat(consumed[0]).isEqualTo(10);
+        // the prefetched pages plus the page the producer is blocked on
+        assertThat(fetchesAhead).allSatisfy(ahead -> assertThat(ahead).isLessThanOrEqualTo(3));
+        assertThat(fetchesAhead.get(0)).isEqualTo(3);
+    }
+
+    @Test
+    void forEachPage_exceptionInProducer_propagatedToConsumer() {
+        var query = new FakeQuery(items(4), Duration.ZERO)
+                .failingAfter(2, () -> new IllegalStateException("broken"));
+        var fetcher = new PageFetcher<>(query, FakeQuery.KEYS, FakeQuery.CODEC, 1, 1, 1,
+                Executors.defaultThreadFactory());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThatThrownBy(
+                () -> fetcher.forEachPage(null, page -> {
+                })).isInstanceOf(IllegalStateException.class).hasMessage("broken"));
+    }
+
+    @Test
+    void forEachPage_errorInProducer_propagatedToConsumer() {
+        var query = new FakeQuery(items(4), Duration.ZERO).failingAfter(1, () -> new AssertionError("broken"));
+        var fetcher = new PageFetcher<>(query, FakeQuery.KEYS, FakeQuery.CODEC, 1, 1, 2,
+                Executors.defaultThreadFactory());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThatThrownBy(
+                () -> fetcher.forEachPage(null, page -> {
+                })).isInstanceOf(AssertionError.class).hasMessage("broken"));
+    }
+
+    static List<Item> items(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Item(String.format("id-%03d", i),
+                        ZonedDateTime.ofInstant(START.plus(Duration.ofHours(6L * i)), ZoneOffset.UTC)))
+                .toList();
+    }
+
+    record Item(String id, ZonedDateTime createdAt) {
+
+    }
+
+    /**
+     * Evaluates the where predicates and sort orders of the page fetcher on a list of items.
+     */
+    static final class FakeQuery implements ResourceQuery<Item> {
+
+        static final ResourceKeys<Item> KEYS = new ResourceKeys<>() {
+            @Override
+            public String id(Item resource) {
+                return resource.id();
+            }
+
+            @Override
+            public ZonedDateTime createdAt(Item resource) {
+                return resource.createdAt();
+            }
+        };
+        static final PageCodec<Item> CODEC = new PageCodec<>() {
+            @Override
+            public byte[] encode(List<Item> page) {
+                return String.join("\n", page.stream().map(item -> item.id() + " " + item.createdAt()).toList())
+                        .getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public List<Item> decode(byte[] bytes) {
+                return Arrays.stream(new String(bytes, StandardCharsets.UTF_8).split("\n"))
+                        .map(line -> line.split(" "))
+                        .map(fields -> new Item(fields[0], ZonedDateTime.parse(fields[1])))
+                        .toList();
+            }
+        };
+        private static final Pattern CONDITION = Pattern.compile("(\\w+) (>=|<|>) \"([^\"]+)\"");
+        private final List<Item> items;
+        private final Duration latency;
+        private int failAfter = Integer.MAX_VALUE;
+        private Supplier<Throwable> failure;
+        private final Set<Thread> fetchThreads = ConcurrentHashMap.newKeySet();
+        private int fetches;
+
+        FakeQuery(List<Item> items, Duration latency) {
+            this.items = items;
+            this.latency = latency;
+        }
+
+        FakeQuery failingAfter(int fetches, Supplier<Throwable> failure) {
+            this.failAfter = fetches;
+            this.failure = failure;
+            return this;
+        }
+
+        synchronized int fetches() {
+            return fetches;
+        }
+
+        Set<Thread> fetchThreads() {
+            return fetchThreads;
+        }
+
+        @Override
+        public ResultPage<Item> fetch(String where, String sort, long limit) {
+            fetchThreads.add(Thread.currentThread());
+            synchronized (this) {
+                if (fetches++ >= failAfter) {
+                    sneakyThrow(failure.get());
+                }
+            }
+            sleep(latency);
+            Predicate<Item> matches = item -> true;
+            var matcher = CONDITION.matcher(where == null ? "" : where);
+            while (matcher.find()) {
+                matches = matches.and(condition(matcher.group(1), matcher.group(2), matcher.group(3)));
+            }
+            Comparator<Item> order = switch (sort) {
+                case "createdAt asc" -> Comparator.comparing(Item::createdAt);
+                case "createdAt desc" -> Comparator.comparing(Item::createdAt).reversed();
+                default -> Comparator.comparing(Item::id);
+            };
+            var results = items.stream().filter(matches).sorted(order).limit(limit).toList();
+            return new ResultPage<>(results, results.size());
+        }
+
+        private static Predicate<Item> condition(String field, String operator, String value) {
+            if (field.equals("id")) {
+                return item -> item.id().compareTo(value) > 0;
+            }
+            var instant = Instant.parse(value);
+            return switch (operator) {
+                case ">=" -> item -> !item.createdAt().toInstant().isBefore(instant);
+                case "<" -> item -> item.createdAt().toInstant().isBefore(instant);
+                default -> item -> item.createdAt().toInstant().isAfter(instant);
+            };
+        }
+
+        static void sleep(Duration duration) {
+            try {
+                Thread.sleep(duration.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E extends Throwable> void sneakyThrow(Throwable throwable) throws E {
+            throw (E) throwable;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import io.vrap.rmf.base.client.ApiHttpHeaders;
+import io.vrap.rmf.base.client.error.ApiHttpException;
+import org.junit.jupiter.api.Test;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class RequestControllerTest {
+
+    @Test
+    void release_throttledAndSuccessfulRequests_adjustLimit() {
+        var controller = new RequestController(8, 3, Duration.ZERO);
+
+        controller.acquire();
+        controller.release(httpException(429, null));
+        assertThat(controller.getLimit()).isEqualTo(4);
+
+        for (int i = 0; i < 5; i++) {
+            controller.acquire();
+            controller.release(null);
+        }
+        assertThat(controller.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void retryDelay_retryAfterHeader_takesPrecedence() {
+        var controller = new RequestController(4, 5, Duration.ofMillis(200));
+
+        assertThat(controller.retryDelay(httpException(429, "3"), Duration.ofMillis(200)))
+                .isEqualTo(Duration.ofSeconds(3));
+        assertThat(controller.retryDelay(httpException(503, null), Duration.ofMillis(200)))
+                .isBetween(Duration.ofMillis(100), Duration.ofMillis(200));
+    }
+
+    @Test
+    void fetch_throttledQuery_retriedUntilSuccess() {
+        var attempts = new AtomicInteger();
+        var query = new RetryingResourceQuery<String>((where, sort, limit) -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw httpException(429, "0");
+            }
+            return new ResultPage<>(List.of("order"), 1);
+        }, new RequestController(2, 3, Duration.ZERO));
+
+        assertThat(query.fetch(null, "id asc", 1).results()).containsExactly("order");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void fetch_meteredThrottledQuery_everyAttemptRecorded() {
+        var attempts = new AtomicInteger();
+        var metrics = new ExportMetricsRecorder(ExportableResourceType.ORDER, ExportMetricsListener.NONE);
+        var query = new RetryingResourceQuery<>(new MeteredResourceQuery<String>((where, sort, limit) -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw httpException(429, "0");
+            }
+            return new ResultPage<>(List.of("order"), 1);
+        }, metrics), new RequestController(2, 3, Duration.ZERO));
+
+        query.fetch(null, "id asc", 1);
+
+        assertThat(metrics.snapshot().requests()).isEqualTo(3);
+        assertThat(metrics.snapshot().failedRequests()).isEqualTo(2);
+        assertThat(metrics.snapshot().pageLatency().getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void fetch_clientError_notRetried() {
+        var attempts = new AtomicInteger();
+        var query = new RetryingResourceQuery<String>((where, sort, limit) -> {
+            attempts.incrementAndGet();
+            throw new DataExportException("bad query", httpException(400, null));
+        }, new RequestController(2, 3, Duration.ZERO));
+
+        assertThatThrownBy(() -> query.fetch(null, "id asc", 1)).isInstanceOf(DataExportException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void fetch_error_releasesPermit() {
+        var controller = new RequestController(1, 3, Duration.ZERO);
+        var query = new RetryingResourceQuery<String>((where, sort, limit) -> {
+            throw new AssertionError("broken");
+        }, controller);
+
+        assertThatThrownBy(() -> query.fetch(null, "id asc", 1)).isInstanceOf(AssertionError.class);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            controller.acquire();
+            controller.release(null);
+        });
+    }
+
+    private static ApiHttpException httpException(int status, String retryAfter) {
+        var headers = retryAfter != null ? new ApiHttpHeaders().withHeader("Retry-After", retryAfter)
+                : new ApiHttpHeaders();
+        return new ApiHttpException(status, "", headers);
+    }
+}
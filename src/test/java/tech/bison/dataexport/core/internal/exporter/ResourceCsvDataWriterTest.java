@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter;
+
+import com.commercetools.api.models.common.CentPrecisionMoney;
+import com.commercetools.api.models.common.HighPrecisionMoney;
+import com.commercetools.api.models.common.Price;
+import com.commercetools.api.models.product.ProductProjection;
+import com.commercetools.api.models.product.ProductVariant;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import org.apache.commons.csv.CSVPrinter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceCsvDataWriterTest {
+
+    @Captor
+    private ArgumentCaptor<List<String>> rowCaptor;
+
+    @Test
+    void writeRow_productWithVariantAndPriceFields_explodeVariantsAndPrices() throws IOException {
+        var csvPrinter = mock(CSVPrinter.class);
+        var properties = new DataExportProperties(ExportableResourceType.PRODUCT,
+                List.of("key", "variants.sku", "variants.prices.value"));
+        var csvDataWriter = new ResourceCsvDataWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
+
+        var product = ProductProjection.builder()
+                .key("shirt")
+                .masterVariant(ProductVariant.builder()
+                        .id(1L)
+                        .sku("shirt-s")
+                        .prices(List.of(price("p1", 1000L), price("p2", 1200L)))
+                        .buildUnchecked())
+                .variants(List.of(ProductVariant.builder().id(2L).sku("shirt-m").prices(List.of()).buildUnchecked()))
+                .buildUnchecked();
+
+        doNothing().when(csvPrinter).printRecord(rowCaptor.capture());
+
+        csvDataWriter.writeRow(product);
+
+        assertThat(rowCaptor.getAllValues()).containsExactly(
+                List.of("shirt", "", ""),
+                List.of("", "shirt-s", "10.0"),
+                List.of("", "shirt-s", "12.0"),
+                List.of("", "shirt-m", ""));
+        assertThat(csvDataWriter.getChildRowCount()).isEqualTo(3);
+    }
+
+    @Test
+    void writeRow_productWithVariantFieldsOnly_writeOneRowPerVariant() throws IOException {
+        var csvPrinter = mock(CSVPrinter.class);
+        var properties = new DataExportProperties(ExportableResourceType.PRODUCT, List.of("key", "variants.sku"));
+        var csvDataWriter = new ResourceCsvDataWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
+
+        var product = ProductProjection.builder()
+                .key("shirt")
+                .masterVariant(ProductVariant.builder().id(1L).sku("shirt-s")
+                        .prices(List.of(price("p1", 1000L))).buildUnchecked())
+                .variants(List.of())
+                .buildUnchecked();
+
+        doNothing().when(csvPrinter).printRecord(rowCaptor.capture());
+
+        csvDataWriter.writeRow(product);
+
+        assertThat(rowCaptor.getAllValues()).containsExactly(List.of("shirt", ""), List.of("", "shirt-s"));
+    }
+
+    @Test
+    void writeRow_highPrecisionPrice_formatPreciseAmount() throws IOException {
+        var csvPrinter = mock(CSVPrinter.class);
+        var properties = new DataExportProperties(ExportableResourceType.PRODUCT, List.of("key", "variants.prices.value"));
+        var csvDataWriter = new ResourceCsvDataWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
+
+        var product = ProductProjection.builder()
+                .key("shirt")
+                .masterVariant(ProductVariant.builder().id(1L).prices(List.of(Price.builder()
+                        .id("p1")
+                        .value(HighPrecisionMoney.builder().preciseAmount(12345L).centAmount(1235L)
+                                .currencyCode("CHF").fractionDigits(3).buildUnchecked())
+                        .buildUnchecked())).buildUnchecked())
+                .variants(List.of())
+                .buildUnchecked();
+
+        doNothing().when(csvPrinter).printRecord(rowCaptor.capture());
+
+        csvDataWriter.writeRow(product);
+
+        assertThat(rowCaptor.getAllValues()).containsExactly(List.of("shirt", ""), List.of("", "12.345"));
+    }
+
+    private static Price price(String id, long centAmount) {
+        return Price.builder()
+                .id(id)
+                .value(CentPrecisionMoney.builder().centAmount(centAmount).currencyCode("CHF").fractionDigits(2)
+                        .buildUnchecked())
+                .buildUnchecked();
+    }
+}
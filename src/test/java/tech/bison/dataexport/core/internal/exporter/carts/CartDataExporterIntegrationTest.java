@@ -0,0 +1,52 @@
+package tech.bison.dataexport.core.internal.exporter.carts;
+
+import com.commercetools.api.models.cart.Cart;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.bison.dataexport.core.api.configuration.CommercetoolsProperties;
+import tech.bison.dataexport.core.api.configuration.FluentConfiguration;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+
+@WireMockTest(httpPort = 8087)
+class CartDataExporterIntegrationTest {
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        var configuration = new FluentConfiguration().withApiProperties(new CommercetoolsProperties("test", "test", "http://localhost:8087", "http://localhost:8087/auth", "integrationtest"));
+        stubFor(post(urlEqualTo("/auth"))
+                .willReturn(aResponse().withBodyFile("token.json")));
+        context = new Context(configuration);
+    }
+
+    @Test
+    void export_allCartsWithinPageLimit_fetchAllCartsAndWrite() {
+        var dataExporter = new CartDataExporter();
+
+        stubFor(get(urlPathEqualTo("/integrationtest/carts"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("carts-single-page.json")));
+
+        var dataWriter = mock(DataWriter.class);
+        ArgumentCaptor<Cart> captor = ArgumentCaptor.forClass(Cart.class);
+        doNothing().when(dataWriter).writeRow(captor.capture());
+
+        dataExporter.export(context, dataWriter);
+
+        var cart = captor.getValue();
+        assertThat(cart.getCustomerEmail()).isEqualTo("jane.doe@example.com");
+        assertThat(cart.getLineItems()).extracting("id").containsExactly("line-item-1");
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/integrationtest/carts"))
+                .withQueryParam("sort", equalTo("id asc"))
+                .withQueryParam("limit", equalTo("50"))
+                .withQueryParam("withTotal", equalTo("false")));
+    }
+}
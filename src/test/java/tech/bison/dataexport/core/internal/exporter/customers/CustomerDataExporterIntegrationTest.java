@@ -0,0 +1,50 @@
+package tech.bison.dataexport.core.internal.exporter.customers;
+
+import com.commercetools.api.models.customer.Customer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.bison.dataexport.core.api.configuration.CommercetoolsProperties;
+import tech.bison.dataexport.core.api.configuration.FluentConfiguration;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+
+@WireMockTest(httpPort = 8087)
+class CustomerDataExporterIntegrationTest {
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        var configuration = new FluentConfiguration().withApiProperties(new CommercetoolsProperties("test", "test", "http://localhost:8087", "http://localhost:8087/auth", "integrationtest"));
+        stubFor(post(urlEqualTo("/auth"))
+                .willReturn(aResponse().withBodyFile("token.json")));
+        context = new Context(configuration);
+    }
+
+    @Test
+    void export_allCustomersWithinPageLimit_fetchAllCustomersAndWrite() {
+        var customerDataExporter = new CustomerDataExporter();
+
+        stubFor(get(urlPathEqualTo("/integrationtest/customers"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("customers-single-page.json")));
+
+        var customerDataWriter = mock(DataWriter.class);
+        ArgumentCaptor<Customer> customerCaptor = ArgumentCaptor.forClass(Customer.class);
+        doNothing().when(customerDataWriter).writeRow(customerCaptor.capture());
+
+        customerDataExporter.export(context, customerDataWriter);
+
+        assertThat(customerCaptor.getValue().getEmail()).isEqualTo("jane.doe@example.com");
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/integrationtest/customers"))
+                .withQueryParam("sort", equalTo("id asc"))
+                .withQueryParam("limit", equalTo("50"))
+                .withQueryParam("withTotal", equalTo("false")));
+    }
+}
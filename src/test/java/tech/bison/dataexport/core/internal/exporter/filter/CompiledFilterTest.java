@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.filter;
+
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+import tech.bison.dataexport.core.api.configuration.ExportFilter;
+import tech.bison.dataexport.core.internal.exporter.RowSource;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledFilterTest {
+
+    private static final Map<String, Object> ORDER = Map.of(
+            "orderNumber", "CH-1001",
+            "createdAt", "2024-03-01T10:00:00.000Z",
+            "totalPrice", Map.of("centAmount", 2500),
+            "lineItems", List.of(Map.of("productKey", "shirt"), Map.of("productKey", "shoe")));
+
+    @Test
+    void compile_pushableConditions_combinedIntoWherePredicate() {
+        var filter = CompiledFilter.compile(ExportFilter.eq("shippingAddress.country", "CH")
+                .and(ExportFilter.in("orderState", "Open", "Confirmed"))
+                .and(ExportFilter.ge("createdAt", ZonedDateTime.parse("2024-01-01T00:00:00+01:00")))
+                .and(ExportFilter.where("store(key = \"ch\")")));
+
+        assertThat(filter.wherePredicate()).isEqualTo("(store(key = \"ch\")) and shippingAddress(country = \"CH\")"
+                + " and orderState in (\"Open\", \"Confirmed\") and createdAt >= \"2023-12-31T23:00:00Z\"");
+        assertThat(filter.hasClientConditions()).isFalse();
+    }
+
+    @Test
+    void compile_textAndIndexConditions_evaluatedOnResources() {
+        var filter = CompiledFilter.compile(ExportFilter.gt("totalPrice.centAmount", 2000)
+                .and(ExportFilter.startsWith("orderNumber", "CH-"))
+                .and(ExportFilter.eq("lineItems.1.productKey", "shoe")));
+
+        assertThat(filter.wherePredicate()).isEqualTo("totalPrice(centAmount > 2000)");
+        assertThat(filter.clientFields()).containsExactly("orderNumber", "lineItems.1.productKey");
+        assertThat(filter.matches(row(ORDER))).isTrue();
+    }
+
+    @Test
+    void matches_childItemConditions_matchAnyChildItem() {
+        assertThat(CompiledFilter.compile(ExportFilter.contains("lineItems.productKey", "hoe")).matches(row(ORDER)))
+                .isTrue();
+        assertThat(CompiledFilter.compile(ExportFilter.startsWith("lineItems.productKey", "hat")).matches(row(ORDER)))
+                .isFalse();
+        assertThat(CompiledFilter.compile(ExportFilter.startsWith("orderNumber", "DE-")).matches(row(ORDER)))
+                .isFalse();
+    }
+
+    @Test
+    void compile_noFilter_matchesAll() {
+        var filter = CompiledFilter.compile(null);
+
+        assertThat(filter.wherePredicate()).isNull();
+        assertThat(filter.matches(row(ORDER))).isTrue();
+    }
+
+    private static RowSource row(Object resource) {
+        return new RowSource(resource, JsonUtils.createObjectMapper());
+    }
+}
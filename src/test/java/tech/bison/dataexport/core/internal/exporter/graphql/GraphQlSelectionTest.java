@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.graphql;
+
+import com.commercetools.api.models.order.Order;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQlSelectionTest {
+
+    @Test
+    void of_scalarMoneyAndChildItemFields_selectOnlyConfiguredFields() {
+        var selection = GraphQlSelection.of(
+                List.of("orderNumber", "totalPrice", "taxedPrice.totalNet.centAmount", "lineItems.id", "lineItems.quantity"),
+                Order.class);
+
+        assertThat(selection).map(GraphQlSelection::render).contains("{ id createdAt lastModifiedAt orderNumber"
+                + " totalPrice { type currencyCode centAmount fractionDigits }"
+                + " taxedPrice { totalNet { type currencyCode centAmount fractionDigits } }"
+                + " lineItems { id quantity } }");
+    }
+
+    @Test
+    void of_typedMoneyField_selectPreciseAmountOfHighPrecisionMoney() {
+        var selection = GraphQlSelection.of(List.of("lineItems.price.value"), Order.class);
+
+        assertThat(selection).map(GraphQlSelection::render).contains("{ id createdAt lastModifiedAt"
+                + " lineItems { price { value { type currencyCode centAmount fractionDigits"
+                + " ... on HighPrecisionMoney { preciseAmount } } } } }");
+    }
+
+    @Test
+    void of_localizedStringField_notSelectable() {
+        assertThat(GraphQlSelection.of(List.of("orderNumber", "lineItems.name.en"), Order.class)).isEmpty();
+    }
+
+    @Test
+    void of_referenceField_notSelectable() {
+        assertThat(GraphQlSelection.of(List.of("customerGroup.id"), Order.class)).isEmpty();
+    }
+
+    @Test
+    void of_jsonPointerField_notSelectable() {
+        assertThat(GraphQlSelection.of(List.of("lineItems.0.id"), Order.class)).isEmpty();
+    }
+
+    @Test
+    void literal_quotesInPredicate_escaped() {
+        assertThat(GraphQlResourceQuery.literal("id > \"a\\b\"")).isEqualTo("\"id > \\\"a\\\\b\\\"\"");
+    }
+}
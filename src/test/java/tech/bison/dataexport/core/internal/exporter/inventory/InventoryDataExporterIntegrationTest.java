@@ -0,0 +1,52 @@
+package tech.bison.dataexport.core.internal.exporter.inventory;
+
+import com.commercetools.api.models.inventory.InventoryEntry;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.bison.dataexport.core.api.configuration.CommercetoolsProperties;
+import tech.bison.dataexport.core.api.configuration.FluentConfiguration;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+
+@WireMockTest(httpPort = 8087)
+class InventoryDataExporterIntegrationTest {
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        var configuration = new FluentConfiguration().withApiProperties(new CommercetoolsProperties("test", "test", "http://localhost:8087", "http://localhost:8087/auth", "integrationtest"));
+        stubFor(post(urlEqualTo("/auth"))
+                .willReturn(aResponse().withBodyFile("token.json")));
+        context = new Context(configuration);
+    }
+
+    @Test
+    void export_allInventoryEntriesWithinPageLimit_fetchAllEntriesAndWrite() {
+        var dataExporter = new InventoryDataExporter();
+
+        stubFor(get(urlPathEqualTo("/integrationtest/inventory"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("inventory-single-page.json")));
+
+        var dataWriter = mock(DataWriter.class);
+        ArgumentCaptor<InventoryEntry> captor = ArgumentCaptor.forClass(InventoryEntry.class);
+        doNothing().when(dataWriter).writeRow(captor.capture());
+
+        dataExporter.export(context, dataWriter);
+
+        var inventoryEntry = captor.getValue();
+        assertThat(inventoryEntry.getSku()).isEqualTo("shirt-s");
+        assertThat(inventoryEntry.getAvailableQuantity()).isEqualTo(20L);
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/integrationtest/inventory"))
+                .withQueryParam("sort", equalTo("id asc"))
+                .withQueryParam("limit", equalTo("500"))
+                .withQueryParam("withTotal", equalTo("false")));
+    }
+}
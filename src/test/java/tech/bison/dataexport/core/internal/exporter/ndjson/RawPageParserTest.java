@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.ndjson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import tech.bison.dataexport.core.api.executor.RawResource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawPageParserTest {
+
+    private static final String PRETTY_PRINTED_PAGE = """
+            {
+              "limit" : 2,
+              "count" : 2,
+              "results" : [ {
+                "id" : "order-1",
+                "createdAt" : "2026-01-04T19:54:49.797Z",
+                "lastModifiedAt" : "2026-01-05T08:00:00.000Z",
+                "orderNumber" : "1001",
+                "totalPrice" : {
+                  "currencyCode" : "EUR",
+                  "centAmount" : 1000
+                }
+              }, {
+                "id" : "order-2",
+                "createdAt" : "2026-01-06T10:00:00.000Z",
+                "lastModifiedAt" : "2026-01-06T10:00:00.000Z",
+                "orderNumber" : "1002",
+                "lineItems" : [ {
+                  "id" : "line-item-1"
+                } ]
+              } ]
+            }
+            """;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parse_prettyPrintedResponse_writesOneLinePerResource() throws Exception {
+        var page = RawPageParser.forFields(List.of()).parse(PRETTY_PRINTED_PAGE.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(page.count()).isEqualTo(2);
+        assertThat(page.results()).extracting(RawResource::id).containsExactly("order-1", "order-2");
+        assertThat(page.results().get(0).lastModifiedAt()).isEqualTo("2026-01-05T08:00:00.000Z");
+        var lines = writeNdjson(page.results());
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).at("/totalPrice/centAmount").asLong()).isEqualTo(1000);
+        assertThat(objectMapper.readTree(lines.get(1)).at("/lineItems/0/id").asText()).isEqualTo("line-item-1");
+    }
+
+    @Test
+    void parse_projection_keepsOnlyProjectedTopLevelFields() throws Exception {
+        var parser = RawPageParser.forFields(List.of("id", "totalPrice.centAmount"));
+
+        var page = parser.parse(PRETTY_PRINTED_PAGE.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(page.results().get(1).createdAt()).isEqualTo("2026-01-06T10:00:00.000Z");
+        var lines = writeNdjson(page.results());
+        assertThat(lines).hasSize(2);
+        var first = objectMapper.readTree(lines.get(0));
+        assertThat(first.fieldNames()).toIterable().containsExactly("id", "totalPrice");
+        assertThat(first.at("/totalPrice/currencyCode").asText()).isEqualTo("EUR");
+        assertThat(objectMapper.readTree(lines.get(1)).fieldNames()).toIterable().containsExactly("id");
+    }
+
+    private static List<String> writeNdjson(List<RawResource> resources) {
+        var output = new ByteArrayOutputStream();
+        try (var writer = new NdjsonDataWriter(output)) {
+            resources.forEach(writer::writeRaw);
+        }
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
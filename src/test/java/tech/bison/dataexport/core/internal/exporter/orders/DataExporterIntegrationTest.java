@@ -1,14 +1,28 @@
 package tech.bison.dataexport.core.internal.exporter.orders;
 
 import com.commercetools.api.models.order.Order;
+import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import tech.bison.dataexport.core.api.configuration.CommercetoolsProperties;
+import tech.bison.dataexport.core.api.configuration.FetchMode;
 import tech.bison.dataexport.core.api.configuration.FluentConfiguration;
+import tech.bison.dataexport.core.api.configuration.OutputFormat;
 import tech.bison.dataexport.core.api.executor.Context;
 import tech.bison.dataexport.core.api.executor.DataWriter;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.executor.RawDataWriter;
+import tech.bison.dataexport.core.api.executor.RawResource;
+import tech.bison.dataexport.core.api.state.ExportStateStore;
+import tech.bison.dataexport.core.internal.exporter.ExportSession;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -18,11 +32,12 @@ import static org.mockito.Mockito.verify;
 
 @WireMockTest(httpPort = 8087)
 class DataExporterIntegrationTest {
+    private FluentConfiguration configuration;
     private Context context;
 
     @BeforeEach
     void setUp() {
-        var configuration = new FluentConfiguration().withApiProperties(new CommercetoolsProperties("test", "test", "http://localhost:8087", "http://localhost:8087/auth", "integrationtest"));
+        configuration = new FluentConfiguration().withApiProperties(new CommercetoolsProperties("test", "test", "http://localhost:8087", "http://localhost:8087/auth", "integrationtest"));
         stubFor(post(urlEqualTo("/auth"))
                 .willReturn(aResponse().withBodyFile("token.json")));
         context = new Context(configuration);
@@ -50,7 +65,7 @@ class DataExporterIntegrationTest {
                 .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-page1.json")));
 
         stubFor(get(urlPathEqualTo("/integrationtest/orders"))
-                .withQueryParam("offset", equalTo("50"))
+                .withQueryParam("where", equalTo("id > \"92f5a867-bf19-47ab-982c-6720a03a3921\""))
                 .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-page2.json")));
 
         var orderDataWriter = mock(DataWriter.class);
@@ -63,5 +78,152 @@ class DataExporterIntegrationTest {
         assertThat(allCapturedOrders).hasSize(2);
         assertThat(allCapturedOrders.get(0).getId()).isEqualTo("92f5a867-bf19-47ab-982c-6720a03a3921");
         assertThat(allCapturedOrders.get(1).getId()).isEqualTo("ef4b1425-3c39-4380-bff1-7d683b1e237f");
+        WireMock.verify(2, getRequestedFor(urlPathEqualTo("/integrationtest/orders"))
+                .withQueryParam("sort", equalTo("id asc"))
+                .withQueryParam("withTotal", equalTo("false")));
+    }
+
+    @Test
+    void export_incrementalExport_queryResourcesModifiedSinceWatermarkWithOverlap() {
+        var exportStateStore = mock(ExportStateStore.class);
+        when(exportStateStore.getWatermark(ExportableResourceType.ORDER))
+                .thenReturn(Optional.of(ZonedDateTime.parse("2026-01-04T10:00:00Z")));
+        var incrementalContext = new Context(configuration.withIncrementalExport(exportStateStore));
+
+        stubFor(get(urlPathEqualTo("/integrationtest/orders"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-single-page.json")));
+
+        new OrderDataExporter().export(incrementalContext, mock(DataWriter.class));
+
+        WireMock.verify(getRequestedFor(urlPathEqualTo("/integrationtest/orders"))
+                .withQueryParam("where", equalTo("lastModifiedAt >= \"2026-01-04T09:59:00Z\"")));
+    }
+
+    @Test
+    void export_temporaryServerError_retryQuery() {
+        var orderDataExporter = new OrderDataExporter();
+
+        stubFor(get(urlPathEqualTo("/integrationtest/orders")).inScenario("retry")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("recovered"));
+        stubFor(get(urlPathEqualTo("/integrationtest/orders")).inScenario("retry")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-single-page.json")));
+
+        var orderDataWriter = mock(DataWriter.class);
+
+        orderDataExporter.export(context, orderDataWriter);
+
+        verify(orderDataWriter).writeRow(any(Order.class));
+        WireMock.verify(2, getRequestedFor(urlPathEqualTo("/integrationtest/orders")));
+    }
+
+    @Test
+    void export_temporaryServerError_countRetriedPageOnce() {
+        var session = new ExportSession(context);
+
+        stubFor(get(urlPathEqualTo("/integrationtest/orders")).inScenario("retry")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("recovered"));
+        stubFor(get(urlPathEqualTo("/integrationtest/orders")).inScenario("retry")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-single-page.json")));
+
+        new OrderDataExporter().export(context, session, mock(DataWriter.class));
+
+        var metrics = session.getMetricsRecorder(ExportableResourceType.ORDER).snapshot();
+        assertThat(metrics.pages()).isEqualTo(1);
+        assertThat(metrics.requests()).isEqualTo(2);
+    }
+
+    @Test
+    void export_timeSlicedFetching_writeSlicesInCreatedAtOrder() {
+        var orderDataExporter = new OrderDataExporter();
+        var slicedContext = new Context(configuration.withFetchSlices(2));
+
+        stubFor(get(urlPathEqualTo("/integrationtest/orders"))
+                .withQueryParam("sort", equalTo("createdAt asc"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-page2.json")));
+        stubFor(get(urlPathEqualTo("/integrationtest/orders"))
+                .withQueryParam("sort", equalTo("createdAt desc"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-page1.json")));
+        stubFor(get(urlPathEqualTo("/integrationtest/orders"))
+                .withQueryParam("where", containing("createdAt < \"2026-01-05T07:54:49.797Z\""))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-page2.json")));
+        stubFor(get(urlPathEqualTo("/integrationtest/orders"))
+                .withQueryParam("where", containing("createdAt < \"2026-01-05T19:54:49.798Z\""))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-page1.json")));
+        stubFor(get(urlPathEqualTo("/integrationtest/orders"))
+                .withQueryParam("where", containing("id > \"92f5a867-bf19-47ab-982c-6720a03a3921\""))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json")
+                        .withBody("{\"limit\": 50, \"offset\": 0, \"count\": 0, \"results\": []}")));
+
+        var orderDataWriter = mock(DataWriter.class);
+        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+        doNothing().when(orderDataWriter).writeRow(orderCaptor.capture());
+
+        orderDataExporter.export(slicedContext, orderDataWriter);
+
+        assertThat(orderCaptor.getAllValues()).extracting(Order::getId)
+                .containsExactly("ef4b1425-3c39-4380-bff1-7d683b1e237f", "92f5a867-bf19-47ab-982c-6720a03a3921");
+    }
+
+    @Test
+    void export_graphQlFetchMode_fetchOnlyConfiguredFields() {
+        var orderDataExporter = new OrderDataExporter();
+        var graphQlContext = new Context(configuration
+                .withExportFields(ExportableResourceType.ORDER, List.of("orderNumber", "totalPrice", "lineItems.id"))
+                .withFetchMode(FetchMode.GRAPHQL));
+
+        stubFor(post(urlPathEqualTo("/integrationtest/graphql"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBody(
+                        "{\"data\": {\"orders\": {\"count\": 1, \"results\": [{\"id\": \"order-1\","
+                                + " \"createdAt\": \"2026-01-04T19:54:49.797Z\", \"lastModifiedAt\": \"2026-01-04T19:54:49.797Z\","
+                                + " \"orderNumber\": \"12345\", \"lineItems\": [{\"id\": \"line-item-1\"}],"
+                                + " \"totalPrice\": {\"type\": \"centPrecision\", \"currencyCode\": \"EUR\","
+                                + " \"centAmount\": 1000, \"fractionDigits\": 2}}]}}}")));
+
+        var orderDataWriter = mock(DataWriter.class);
+        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+        doNothing().when(orderDataWriter).writeRow(orderCaptor.capture());
+
+        orderDataExporter.export(graphQlContext, orderDataWriter);
+
+        var order = orderCaptor.getValue();
+        assertThat(order.getOrderNumber()).isEqualTo("12345");
+        assertThat(order.getTotalPrice().getCentAmount()).isEqualTo(1000L);
+        assertThat(order.getLineItems()).extracting("id").containsExactly("line-item-1");
+        WireMock.verify(postRequestedFor(urlPathEqualTo("/integrationtest/graphql"))
+                .withRequestBody(containing("orders(limit: 50, sort: [\\\"id asc\\\"])"))
+                .withRequestBody(containing("lineItems { id }")));
+        WireMock.verify(0, getRequestedFor(urlPathEqualTo("/integrationtest/orders")));
+    }
+
+    @Test
+    void export_ndjsonWithProjection_writeRawTopLevelFields() {
+        var orderDataExporter = new OrderDataExporter();
+        var rawContext = new Context(configuration
+                .withExportFields(ExportableResourceType.ORDER, List.of("id", "totalPrice.centAmount"))
+                .withOutputFormat(ExportableResourceType.ORDER, OutputFormat.NDJSON));
+
+        stubFor(get(urlPathEqualTo("/integrationtest/orders"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("orders-single-page.json")));
+
+        var orderDataWriter = mock(DataWriter.class, withSettings().extraInterfaces(RawDataWriter.class));
+        ArgumentCaptor<RawResource> resourceCaptor = ArgumentCaptor.forClass(RawResource.class);
+        doNothing().when((RawDataWriter) orderDataWriter).writeRaw(resourceCaptor.capture());
+
+        orderDataExporter.export(rawContext, orderDataWriter);
+
+        verify(orderDataWriter, never()).writeRow(any());
+        var resource = resourceCaptor.getValue();
+        assertThat(resource.id()).isEqualTo("92f5a867-bf19-47ab-982c-6720a03a3921");
+        assertThat(resource.lastModifiedAt()).isNotNull();
+        assertThat(new String(resource.json(), StandardCharsets.UTF_8))
+                .startsWith("{\"id\"")
+                .contains("\"totalPrice\"")
+                .doesNotContain("\"orderState\"");
     }
-}
\ No newline at end of file
+}
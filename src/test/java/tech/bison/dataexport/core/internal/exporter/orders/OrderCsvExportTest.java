@@ -17,7 +17,9 @@ package tech.bison.dataexport.core.internal.exporter.orders;
 
 import com.commercetools.api.models.cart.LineItem;
 import com.commercetools.api.models.common.CentPrecisionMoney;
+import com.commercetools.api.models.common.LocalizedString;
 import com.commercetools.api.models.order.Order;
+import com.commercetools.api.models.order.OrderState;
 import io.vrap.rmf.base.client.utils.json.JsonUtils;
 import org.apache.commons.csv.CSVPrinter;
 import org.junit.jupiter.api.Test;
@@ -27,6 +29,7 @@ import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tech.bison.dataexport.core.api.configuration.DataExportProperties;
 import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.internal.exporter.ResourceCsvDataWriter;
 
 import java.io.IOException;
 import java.time.ZoneId;
@@ -39,7 +42,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
-class OrderDataCsvWriterTest {
+class OrderCsvExportTest {
 
     @Captor
     private ArgumentCaptor<List<String>> rowCaptor;
@@ -48,7 +51,7 @@ class OrderDataCsvWriterTest {
     void writeRow_simpleTopLevelFields_printCsvRecord() throws IOException {
         var csvPrinter = mock(CSVPrinter.class);
         var properties = new DataExportProperties(ExportableResourceType.ORDER, List.of("orderNumber", "customerId", "createdAt"));
-        var csvDataWriter = new OrderDataCsvWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
+        var csvDataWriter = new ResourceCsvDataWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
 
         var order = Order.builder()
                 .id("order-id")
@@ -66,7 +69,7 @@ class OrderDataCsvWriterTest {
     void writeRow_withPositionFields_printCsvRecord() throws IOException {
         var csvPrinter = mock(CSVPrinter.class);
         var properties = new DataExportProperties(ExportableResourceType.ORDER, List.of("orderNumber", "lineItems.id", "lineItems.quantity"));
-        var csvDataWriter = new OrderDataCsvWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
+        var csvDataWriter = new ResourceCsvDataWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
 
         var order = Order.builder()
             .orderNumber("12345")
@@ -79,13 +82,52 @@ class OrderDataCsvWriterTest {
 
         assertThat(rowCaptor.getAllValues().get(0)).isEqualTo(List.of("12345", "", ""));
         assertThat(rowCaptor.getAllValues().get(1)).isEqualTo(List.of("", "line-item-id", "2"));
+        assertThat(csvDataWriter.getChildRowCount()).isEqualTo(1);
+    }
+
+    @Test
+    void writeRow_positionFieldsBeforeOrderFields_keepConfiguredColumnOrder() throws IOException {
+        var csvPrinter = mock(CSVPrinter.class);
+        var properties = new DataExportProperties(ExportableResourceType.ORDER, List.of("lineItems.id", "orderNumber"));
+        var csvDataWriter = new ResourceCsvDataWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
+
+        var order = Order.builder()
+            .orderNumber("12345")
+            .lineItems(List.of(LineItem.builder().id("line-item-id").quantity(2L).buildUnchecked()))
+            .buildUnchecked();
+
+        doNothing().when(csvPrinter).printRecord(rowCaptor.capture());
+
+        csvDataWriter.writeRow(order);
+
+        assertThat(rowCaptor.getAllValues().get(0)).isEqualTo(List.of("", "12345"));
+        assertThat(rowCaptor.getAllValues().get(1)).isEqualTo(List.of("line-item-id", ""));
+    }
+
+    @Test
+    void writeRow_enumAndLocalizedFields_printCsvRecord() throws IOException {
+        var csvPrinter = mock(CSVPrinter.class);
+        var properties = new DataExportProperties(ExportableResourceType.ORDER, List.of("orderState", "lineItems.name.en"));
+        var csvDataWriter = new ResourceCsvDataWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
+
+        var order = Order.builder()
+            .orderState(OrderState.OPEN)
+            .lineItems(List.of(LineItem.builder().name(LocalizedString.ofEnglish("MyProduct")).buildUnchecked()))
+            .buildUnchecked();
+
+        doNothing().when(csvPrinter).printRecord(rowCaptor.capture());
+
+        csvDataWriter.writeRow(order);
+
+        assertThat(rowCaptor.getAllValues().get(0)).isEqualTo(List.of("Open", ""));
+        assertThat(rowCaptor.getAllValues().get(1)).isEqualTo(List.of("", "MyProduct"));
     }
 
     @Test
     void writeRow_centPrecisionPriceField_printCsvRecord() throws IOException {
         var csvPrinter = mock(CSVPrinter.class);
         var properties = new DataExportProperties(ExportableResourceType.ORDER, List.of("totalPrice"));
-        var csvDataWriter = new OrderDataCsvWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
+        var csvDataWriter = new ResourceCsvDataWriter(csvPrinter, properties, JsonUtils.createObjectMapper());
 
         var order = Order.builder()
                 .totalPrice(CentPrecisionMoney.builder().centAmount(195L).currencyCode("CHF").fractionDigits(2).buildUnchecked())
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.parquet;
+
+import com.commercetools.api.models.cart.LineItem;
+import com.commercetools.api.models.common.CentPrecisionMoney;
+import com.commercetools.api.models.order.Order;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.example.ExampleParquetReader;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.LogicalTypeAnnotation.TimeUnit;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.bison.dataexport.core.api.configuration.DataExportProperties;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.internal.exporter.ExtractionPlans;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParquetDataWriterTest {
+
+    @Test
+    void writeRow_orderWithLineItems_readBackWithTypedColumns(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("orders.parquet");
+        var properties = new DataExportProperties(ExportableResourceType.ORDER,
+                List.of("orderNumber", "createdAt", "totalPrice", "lineItems.quantity"));
+        var order = Order.builder()
+                .id("order-id")
+                .orderNumber("12345")
+                .createdAt(ZonedDateTime.of(2026, 12, 20, 10, 0, 0, 0, ZoneId.of("UTC")))
+                .totalPrice(CentPrecisionMoney.builder().centAmount(195L).currencyCode("CHF").fractionDigits(2)
+                        .buildUnchecked())
+                .lineItems(List.of(LineItem.builder().id("line-item-1").quantity(2L).buildUnchecked(),
+                        LineItem.builder().id("line-item-2").quantity(3L).buildUnchecked()))
+                .buildUnchecked();
+
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            var dataWriter = new ParquetDataWriter(outputStream, properties,
+                    ExtractionPlans.forResource(properties, JsonUtils.createObjectMapper()));
+            dataWriter.writeRow(order);
+            dataWriter.close();
+            assertThat(dataWriter.getChildRowCount()).isEqualTo(2);
+        }
+
+        try (var reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            var schema = reader.getFooter().getFileMetaData().getSchema();
+            assertThat(schema.getType("orderNumber").asPrimitiveType().getPrimitiveTypeName())
+                    .isEqualTo(PrimitiveTypeName.BINARY);
+            assertThat(schema.getType("orderNumber").getLogicalTypeAnnotation())
+                    .isEqualTo(LogicalTypeAnnotation.stringType());
+            assertThat(schema.getType("createdAt").asPrimitiveType().getPrimitiveTypeName())
+                    .isEqualTo(PrimitiveTypeName.INT64);
+            assertThat(schema.getType("createdAt").getLogicalTypeAnnotation())
+                    .isEqualTo(LogicalTypeAnnotation.timestampType(true, TimeUnit.MILLIS));
+            assertThat(schema.getType("totalPrice").asPrimitiveType().getPrimitiveTypeName())
+                    .isEqualTo(PrimitiveTypeName.DOUBLE);
+            assertThat(schema.getType("lineItems_quantity").asPrimitiveType().getPrimitiveTypeName())
+                    .isEqualTo(PrimitiveTypeName.INT64);
+        }
+        var rows = new ArrayList<Group>();
+        try (var reader = ExampleParquetReader.builder(new LocalInputFile(file)).build()) {
+            for (var row = reader.read(); row != null; row = reader.read()) {
+                rows.add(row);
+            }
+        }
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).getString("orderNumber", 0)).isEqualTo("12345");
+        assertThat(rows.get(0).getLong("createdAt", 0))
+                .isEqualTo(ZonedDateTime.of(2026, 12, 20, 10, 0, 0, 0, ZoneId.of("UTC")).toInstant().toEpochMilli());
+        assertThat(rows.get(0).getDouble("totalPrice", 0)).isEqualTo(1.95);
+        assertThat(rows.get(0).getFieldRepetitionCount("lineItems_quantity")).isZero();
+        assertThat(rows.get(1).getFieldRepetitionCount("orderNumber")).isZero();
+        assertThat(rows.get(1).getLong("lineItems_quantity", 0)).isEqualTo(2);
+        assertThat(rows.get(2).getFieldRepetitionCount("totalPrice")).isZero();
+        assertThat(rows.get(2).getLong("lineItems_quantity", 0)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,52 @@
+package tech.bison.dataexport.core.internal.exporter.payments;
+
+import com.commercetools.api.models.payment.Payment;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.bison.dataexport.core.api.configuration.CommercetoolsProperties;
+import tech.bison.dataexport.core.api.configuration.FluentConfiguration;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+
+@WireMockTest(httpPort = 8087)
+class PaymentDataExporterIntegrationTest {
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        var configuration = new FluentConfiguration().withApiProperties(new CommercetoolsProperties("test", "test", "http://localhost:8087", "http://localhost:8087/auth", "integrationtest"));
+        stubFor(post(urlEqualTo("/auth"))
+                .willReturn(aResponse().withBodyFile("token.json")));
+        context = new Context(configuration);
+    }
+
+    @Test
+    void export_allPaymentsWithinPageLimit_fetchAllPaymentsAndWrite() {
+        var dataExporter = new PaymentDataExporter();
+
+        stubFor(get(urlPathEqualTo("/integrationtest/payments"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("payments-single-page.json")));
+
+        var dataWriter = mock(DataWriter.class);
+        ArgumentCaptor<Payment> captor = ArgumentCaptor.forClass(Payment.class);
+        doNothing().when(dataWriter).writeRow(captor.capture());
+
+        dataExporter.export(context, dataWriter);
+
+        var payment = captor.getValue();
+        assertThat(payment.getKey()).isEqualTo("payment-1");
+        assertThat(payment.getTransactions()).extracting("id").containsExactly("transaction-1");
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/integrationtest/payments"))
+                .withQueryParam("sort", equalTo("id asc"))
+                .withQueryParam("limit", equalTo("100"))
+                .withQueryParam("withTotal", equalTo("false")));
+    }
+}
@@ -0,0 +1,53 @@
+package tech.bison.dataexport.core.internal.exporter.products;
+
+import com.commercetools.api.models.product.ProductProjection;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.bison.dataexport.core.api.configuration.CommercetoolsProperties;
+import tech.bison.dataexport.core.api.configuration.FluentConfiguration;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.DataWriter;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+
+@WireMockTest(httpPort = 8087)
+class ProductDataExporterIntegrationTest {
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        var configuration = new FluentConfiguration().withApiProperties(new CommercetoolsProperties("test", "test", "http://localhost:8087", "http://localhost:8087/auth", "integrationtest"));
+        stubFor(post(urlEqualTo("/auth"))
+                .willReturn(aResponse().withBodyFile("token.json")));
+        context = new Context(configuration);
+    }
+
+    @Test
+    void export_publishedProductsWithinPageLimit_fetchCurrentProjectionsAndWrite() {
+        var dataExporter = new ProductDataExporter();
+
+        stubFor(get(urlPathEqualTo("/integrationtest/product-projections"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("product-projections-single-page.json")));
+
+        var dataWriter = mock(DataWriter.class);
+        ArgumentCaptor<ProductProjection> captor = ArgumentCaptor.forClass(ProductProjection.class);
+        doNothing().when(dataWriter).writeRow(captor.capture());
+
+        dataExporter.export(context, dataWriter);
+
+        var product = captor.getValue();
+        assertThat(product.getKey()).isEqualTo("shirt");
+        assertThat(ProductDataExporter.allVariants(product)).extracting("sku").containsExactly("shirt-s", "shirt-m");
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/integrationtest/product-projections"))
+                .withQueryParam("sort", equalTo("id asc"))
+                .withQueryParam("limit", equalTo("50"))
+                .withQueryParam("staged", equalTo("false"))
+                .withQueryParam("withTotal", equalTo("false")));
+    }
+}
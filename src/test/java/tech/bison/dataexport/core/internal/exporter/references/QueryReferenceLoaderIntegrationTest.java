@@ -0,0 +1,66 @@
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.models.channel.Channel;
+import com.commercetools.api.models.channel.ChannelReference;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.bison.dataexport.core.api.configuration.CommercetoolsProperties;
+import tech.bison.dataexport.core.api.configuration.FluentConfiguration;
+import tech.bison.dataexport.core.api.executor.Context;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.internal.exporter.RequestController;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WireMockTest(httpPort = 8087)
+class QueryReferenceLoaderIntegrationTest {
+    @SuppressWarnings("unchecked")
+    private static final ReferenceType<?, Channel> CHANNEL =
+            (ReferenceType<?, Channel>) ReferenceTypes.find(ChannelReference.class);
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        var configuration = new FluentConfiguration().withApiProperties(new CommercetoolsProperties("test", "test", "http://localhost:8087", "http://localhost:8087/auth", "integrationtest"));
+        stubFor(post(urlEqualTo("/auth"))
+                .willReturn(aResponse().withBodyFile("token.json")));
+        context = new Context(configuration);
+    }
+
+    @Test
+    void load_moreIdsThanQueryLimit_queryIdsInBatches() {
+        var metrics = new ExportMetricsRecorder(ExportableResourceType.ORDER, ExportMetricsListener.NONE);
+        var loader = new QueryReferenceLoader(context.getProjectApiRoot(), new RequestController(2, 1, Duration.ZERO),
+                metrics);
+        var ids = IntStream.range(0, 150).mapToObj(i -> String.format("ch-%03d", i))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        stubFor(get(urlPathEqualTo("/integrationtest/channels"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBodyFile("channels-by-id.json")));
+
+        var channels = loader.load(CHANNEL, ids);
+
+        assertThat(channels).containsOnlyKeys("ch-000", "ch-149");
+        assertThat(channels.get("ch-149").getKey()).isEqualTo("store-bern");
+        assertThat(metrics.snapshot().referenceRequests()).isEqualTo(2);
+        WireMock.verify(2, getRequestedFor(urlPathEqualTo("/integrationtest/channels"))
+                .withQueryParam("sort", absent())
+                .withQueryParam("withTotal", equalTo("false")));
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/integrationtest/channels"))
+                .withQueryParam("where", matching("id in \\(\"ch-000\"(, \"ch-\\d{3}\"){99}\\)"))
+                .withQueryParam("limit", equalTo("100")));
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo("/integrationtest/channels"))
+                .withQueryParam("where", matching("id in \\(\"ch-100\"(, \"ch-\\d{3}\"){49}\\)"))
+                .withQueryParam("limit", equalTo("50")));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.models.channel.Channel;
+import com.commercetools.api.models.channel.ChannelBuilder;
+import com.commercetools.api.models.channel.ChannelReference;
+import com.commercetools.api.models.common.BaseResource;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.bison.dataexport.core.api.executor.ExportableResourceType;
+import tech.bison.dataexport.core.api.metrics.ExportMetricsListener;
+import tech.bison.dataexport.core.internal.metrics.ExportMetricsRecorder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private static final ReferenceType<?, Channel> CHANNEL =
+            (ReferenceType<?, Channel>) ReferenceTypes.find(ChannelReference.class);
+
+    @Test
+    void put_exceedingMaxSize_evictsLeastRecentlyUsed() {
+        var probe = new ReferenceCache(Long.MAX_VALUE, JsonUtils.createObjectMapper());
+        probe.put(CHANNEL, channel("ch-1"));
+        var cache = new ReferenceCache(2 * probe.getBytes(), JsonUtils.createObjectMapper());
+
+        cache.put(CHANNEL, channel("ch-1"));
+        cache.put(CHANNEL, channel("ch-2"));
+        cache.get(CHANNEL, "ch-1");
+        cache.put(CHANNEL, channel("ch-3"));
+
+        assertThat(cache.get(CHANNEL, "ch-2")).isNull();
+        assertThat(cache.get(CHANNEL, "ch-1")).isNotNull();
+        assertThat(cache.get(CHANNEL, "ch-3")).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(3);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void put_olderVersion_keepsCachedResource() {
+        var cache = new ReferenceCache(Long.MAX_VALUE, JsonUtils.createObjectMapper());
+
+        cache.put(CHANNEL, channel("ch-1", 2, "current"));
+        cache.put(CHANNEL, channel("ch-1", 1, "stale"));
+
+        assertThat(cache.get(CHANNEL, "ch-1").getKey()).isEqualTo("current");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void put_disabledCache_cachesNothing() {
+        var cache = new ReferenceCache(0, JsonUtils.createObjectMapper());
+
+        cache.put(CHANNEL, channel("ch-1"));
+
+        assertThat(cache.get(CHANNEL, "ch-1")).isNull();
+        assertThat(cache.getBytes()).isZero();
+    }
+
+    @Test
+    void load_cachedReferences_onlyMissingIdsLoaded() {
+        var metrics = new ExportMetricsRecorder(ExportableResourceType.ORDER, ExportMetricsListener.NONE);
+        var loads = new ArrayList<Set<String>>();
+        var loader = new CachingReferenceLoader(new ReferenceLoader() {
+            @Override
+            public <T extends BaseResource> Map<String, T> load(ReferenceType<?, T> type, Set<String> ids) {
+                loads.add(ids);
+                var resources = new HashMap<String, T>();
+                ids.forEach(id -> resources.put(id, cast(channel(id))));
+                return resources;
+            }
+        }, new ReferenceCache(1024 * 1024, JsonUtils.createObjectMapper()), metrics);
+
+        loader.load(CHANNEL, Set.of("ch-1", "ch-2"));
+        var resources = loader.load(CHANNEL, Set.of("ch-1", "ch-2", "ch-3"));
+
+        assertThat(resources).containsOnlyKeys("ch-1", "ch-2", "ch-3");
+        assertThat(loads).containsExactly(Set.of("ch-1", "ch-2"), Set.of("ch-3"));
+        assertThat(metrics.snapshot().referenceCacheHits()).isEqualTo(2);
+        assertThat(metrics.snapshot().referenceCacheMisses()).isEqualTo(3);
+    }
+
+    @Test
+    void save_restoredInNextExport_modifiedResourcesReplaced(@TempDir Path directory) {
+        var file = directory.resolve("references.json.gz");
+        var firstExport = Instant.parse("2026-01-01T10:00:00Z");
+        var cache = new ReferenceCache(1024 * 1024, JsonUtils.createObjectMapper(), file,
+                Clock.fixed(firstExport, ZoneOffset.UTC));
+        cache.put(CHANNEL, channel("ch-1", 1, "first"));
+        cache.put(CHANNEL, channel("ch-2", 1, "first"));
+        cache.save();
+
+        var restored = new ReferenceCache(1024 * 1024, JsonUtils.createObjectMapper(), file,
+                Clock.fixed(firstExport.plusSeconds(3600), ZoneOffset.UTC));
+        var validatedSince = new ArrayList<Instant>();
+        restored.validate(CHANNEL, since -> {
+            validatedSince.add(since);
+            return Optional.of(List.of(channel("ch-2", 2, "second"), channel("ch-3", 1, "second")));
+        });
+        restored.validate(CHANNEL, since -> Optional.of(List.of(channel("ch-1", 2, "second"))));
+
+        assertThat(validatedSince).containsExactly(firstExport.minusSeconds(60));
+        assertThat(restored.get(CHANNEL, "ch-1").getKey()).isEqualTo("first");
+        assertThat(restored.get(CHANNEL, "ch-2").getKey()).isEqualTo("second");
+        assertThat(restored.get(CHANNEL, "ch-3")).isNull();
+    }
+
+    @Test
+    void load_loaderWithoutModifiedQuery_restoredResourcesReloaded(@TempDir Path directory) {
+        var file = directory.resolve("references.json.gz");
+        var cache = new ReferenceCache(1024 * 1024, JsonUtils.createObjectMapper(), file, Clock.systemUTC());
+        cache.put(CHANNEL, channel("ch-1", 1, "first"));
+        cache.save();
+        var metrics = new ExportMetricsRecorder(ExportableResourceType.ORDER, ExportMetricsListener.NONE);
+        var loader = new CachingReferenceLoader(new ReferenceLoader() {
+            @Override
+            public <T extends BaseResource> Map<String, T> load(ReferenceType<?, T> type, Set<String> ids) {
+                return Map.of("ch-1", cast(channel("ch-1", 2, "second")));
+            }
+        }, new ReferenceCache(1024 * 1024, JsonUtils.createObjectMapper(), file, Clock.systemUTC()), metrics);
+
+        var resources = loader.load(CHANNEL, Set.of("ch-1"));
+
+        assertThat(resources.get("ch-1").getKey()).isEqualTo("second");
+        assertThat(metrics.snapshot().referenceCacheMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void restore_invalidCacheFile_startsEmpty(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("references.json.gz");
+        try (var outputStream = new GZIPOutputStream(Files.newOutputStream(file))) {
+            outputStream.write(("{\"format\": 1, \"types\": [{\"name\": \"ChannelReference\", \"freshSince\": \"yesterday\","
+                    + " \"resources\": [{\"id\": \"ch-1\"}]}]}").getBytes(StandardCharsets.UTF_8));
+        }
+
+        var cache = new ReferenceCache(1024 * 1024, JsonUtils.createObjectMapper(), file, Clock.systemUTC());
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private static Channel channel(String id) {
+        return channel(id, 1, "key-" + id);
+    }
+
+    private static Channel channel(String id, long version, String key) {
+        return ChannelBuilder.of().id(id).version(version).key(key).roles(List.of()).buildUnchecked();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object resource) {
+        return (T) resource;
+    }
+}
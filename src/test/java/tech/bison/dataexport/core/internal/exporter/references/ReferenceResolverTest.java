@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.exporter.references;
+
+import com.commercetools.api.models.cart.LineItemBuilder;
+import com.commercetools.api.models.channel.ChannelBuilder;
+import com.commercetools.api.models.channel.ChannelReferenceBuilder;
+import com.commercetools.api.models.common.BaseResource;
+import com.commercetools.api.models.customer_group.CustomerGroupBuilder;
+import com.commercetools.api.models.customer_group.CustomerGroupReference;
+import com.commercetools.api.models.customer_group.CustomerGroupReferenceBuilder;
+import com.commercetools.api.models.order.Order;
+import com.commercetools.api.models.order.OrderBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceResolverTest {
+
+    @Test
+    void resolve_referencesOfPage_loadedOncePerReferenceType() {
+        var resolver = ReferenceResolver.compile(
+                List.of("orderNumber", "customerGroup.obj.key", "lineItems.supplyChannel.obj.key"), Order.class);
+        var orders = List.of(order("cg-1", "ch-1", "ch-2"), order("cg-1", "ch-2"), order(null, "ch-3"));
+        var loads = new ArrayList<Set<String>>();
+
+        resolver.resolve(orders, new ReferenceLoader() {
+            @Override
+            public <T extends BaseResource> Map<String, T> load(ReferenceType<?, T> type, Set<String> ids) {
+                loads.add(ids);
+                var resources = new HashMap<String, T>();
+                ids.stream().filter(id -> !id.equals("ch-3")).forEach(id -> resources.put(id, type == ReferenceTypes
+                        .find(CustomerGroupReference.class)
+                        ? cast(CustomerGroupBuilder.of().id(id).key("key-" + id).buildUnchecked())
+                        : cast(ChannelBuilder.of().id(id).key("key-" + id).buildUnchecked())));
+                return resources;
+            }
+        });
+
+        assertThat(loads).containsExactly(Set.of("cg-1"), Set.of("ch-1", "ch-2", "ch-3"));
+        assertThat(orders.get(1).getCustomerGroup().getObj().getKey()).isEqualTo("key-cg-1");
+        assertThat(orders.get(0).getLineItems().get(1).getSupplyChannel().getObj().getKey()).isEqualTo("key-ch-2");
+        assertThat(orders.get(2).getLineItems().get(0).getSupplyChannel().getObj()).isNull();
+    }
+
+    @Test
+    void compile_noReferenceFields_isEmpty() {
+        assertThat(ReferenceResolver.compile(List.of("orderNumber", "customerGroup.id", "lineItems.obj"), Order.class)
+                .isEmpty()).isTrue();
+    }
+
+    @Test
+    void idIn_batchOfIds_quotedPredicate() {
+        assertThat(QueryReferenceLoader.idIn(List.of("a", "b\"c"))).isEqualTo("id in (\"a\", \"b\\\"c\")");
+    }
+
+    private static Order order(String customerGroupId, String... channelIds) {
+        return OrderBuilder.of()
+                .customerGroup(customerGroupId != null ? CustomerGroupReferenceBuilder.of().id(customerGroupId).build()
+                        : null)
+                .lineItems(List.of(channelIds).stream()
+                        .map(channelId -> LineItemBuilder.of()
+                                .supplyChannel(ChannelReferenceBuilder.of().id(channelId).build())
+                                .buildUnchecked())
+                        .toList())
+                .buildUnchecked();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object resource) {
+        return (T) resource;
+    }
+}
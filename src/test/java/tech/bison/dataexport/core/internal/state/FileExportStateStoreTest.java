@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.bison.dataexport.core.internal.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.bison.dataexport.core.api.executor.ExportableResourceType.CUSTOMER;
+import static tech.bison.dataexport.core.api.executor.ExportableResourceType.ORDER;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileExportStateStoreTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void getWatermark_withoutStateFile_returnsEmpty() {
+    var store = new FileExportStateStore(tempDir.resolve("state.properties"));
+
+    assertThat(store.getWatermark(ORDER)).isEmpty();
+  }
+
+  @Test
+  void saveWatermark_multipleResourceTypes_persistsWatermarkPerResourceType() {
+    var stateFile = tempDir.resolve("state.properties");
+    new FileExportStateStore(stateFile).saveWatermark(ORDER, ZonedDateTime.parse("2026-01-01T10:00:00Z"));
+    new FileExportStateStore(stateFile).saveWatermark(CUSTOMER, ZonedDateTime.parse("2026-01-02T10:00:00Z"));
+
+    var store = new FileExportStateStore(stateFile);
+
+    assertThat(store.getWatermark(ORDER)).contains(ZonedDateTime.parse("2026-01-01T10:00:00Z"));
+    assertThat(store.getWatermark(CUSTOMER)).contains(ZonedDateTime.parse("2026-01-02T10:00:00Z"));
+  }
+}
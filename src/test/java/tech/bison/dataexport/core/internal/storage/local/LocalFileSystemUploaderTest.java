@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2000 - 2026 Bison Schweiz AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.bison.dataexport.core.internal.storage.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import tech.bison.dataexport.core.api.configuration.LocalStorageProperties;
+import tech.bison.dataexport.core.api.exception.DataExportException;
+import tech.bison.dataexport.core.api.storage.BlobDescriptor;
+
+class LocalFileSystemUploaderTest {
+
+  private static final BlobDescriptor BLOB = new BlobDescriptor("orders/orders.csv", "text/csv", null);
+
+  @TempDir
+  private Path rootDirectory;
+
+  @Test
+  void openOutputStream_close_publishFile() throws IOException {
+    try (var uploader = new LocalFileSystemUploader(new LocalStorageProperties(rootDirectory))) {
+      var outputStream = uploader.openOutputStream(BLOB);
+      outputStream.write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+
+      assertThat(rootDirectory.resolve("orders/orders.csv")).doesNotExist();
+      outputStream.close();
+    }
+
+    assertThat(rootDirectory.resolve("orders/orders.csv")).hasContent("id\n1\n");
+    try (var files = Files.list(rootDirectory.resolve("orders"))) {
+      assertThat(files).hasSize(1);
+    }
+  }
+
+  @Test
+  void openOutputStream_abort_leaveNoFile() throws IOException {
+    try (var uploader = new LocalFileSystemUploader(new LocalStorageProperties(rootDirectory))) {
+      var outputStream = uploader.openOutputStream(BLOB);
+      outputStream.write("id\n".getBytes(StandardCharsets.UTF_8));
+      outputStream.abort();
+    }
+
+    try (var files = Files.list(rootDirectory.resolve("orders"))) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  void uploadAsync_moveFile() throws IOException {
+    var file = Files.writeString(Files.createTempFile(rootDirectory, "chunk", ".csv"), "id\n2\n");
+    try (var uploader = new LocalFileSystemUploader(new LocalStorageProperties(rootDirectory))) {
+      uploader.uploadAsync(BLOB, file).join();
+    }
+
+    assertThat(rootDirectory.resolve("orders/orders.csv")).hasContent("id\n2\n");
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  @DisabledOnOs(OS.WINDOWS)
+  void openOutputStream_close_publishReadableFile() throws IOException {
+    try (var uploader = new LocalFileSystemUploader(new LocalStorageProperties(rootDirectory))) {
+      var outputStream = uploader.openOutputStream(BLOB);
+      outputStream.write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+      outputStream.close();
+    }
+
+    assertThat(Files.getPosixFilePermissions(rootDirectory.resolve("orders/orders.csv")))
+        .isEqualTo(PosixFilePermissions.fromString("rw-r--r--"));
+  }
+
+  @Test
+  void openOutputStream_nameOutsideRootDirectory_throwsException() {
+    try (var uploader = new LocalFileSystemUploader(new LocalStorageProperties(rootDirectory))) {
+      assertThatThrownBy(() -> uploader.openOutputStream(new BlobDescriptor("../orders.csv", "text/csv", null)))
+          .isInstanceOf(DataExportException.class);
+    }
+  }
+}